@@ -0,0 +1,202 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.integration.cdi;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.inject.spi.Extension;
+import javax.validation.ConstraintViolationException;
+import javax.validation.executable.ExecutableType;
+import javax.validation.executable.ValidateOnExecution;
+
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.priority.EarlierInterceptor;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.priority.InvocationTracker;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.priority.LaterInterceptor;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.types.CalendarService;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.types.DeliveryService;
+import org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.types.Event;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-invocation overhead of the validation interceptor on the beans of the
+ * {@code integration.cdi.executable.types} and {@code integration.cdi.executable.priority} tests, in an embedded Weld
+ * SE container instead of the EE container the tests are deployed to.
+ * <p>
+ * The {@code excluded*} benchmarks call constrained methods which are not validated because of their
+ * {@link ValidateOnExecution} settings, the {@code validated*} benchmarks call methods which are validated and whose
+ * constraints are satisfied. {@link #uncontainedCreateEvent()} calls an instance which is not managed by the container;
+ * the {@code excluded*} scores should be close to its score.
+ * <p>
+ * The validation interceptor is contributed by the CDI integration of the provider, configured in the {@code cdi}
+ * profile, which bootstraps its own validator factory and ignores the {@code validation.provider} property. As the bean
+ * discovery is disabled, the portable extensions of the class path, among which the CDI integration, are registered
+ * explicitly; the setup fails if the validation interceptor is not bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ExecutableValidationInterceptorBenchmark {
+
+	private WeldContainer container;
+
+	private CalendarService uncontainedCalendar;
+
+	private CalendarService calendar;
+
+	private DeliveryService deliveryService;
+
+	private org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.priority.CalendarService priorityCalendar;
+
+	private InvocationTracker invocationTracker;
+
+	@Setup
+	public void setUp() {
+		Weld weld = new Weld();
+		// the extensions are not loaded when the discovery is disabled
+		for ( Extension extension : ServiceLoader.load( Extension.class ) ) {
+			weld.addExtension( extension );
+		}
+
+		container = weld
+				.disableDiscovery()
+				.beanClasses(
+						CalendarService.class,
+						DeliveryService.class,
+						org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.priority.CalendarService.class,
+						EarlierInterceptor.class,
+						LaterInterceptor.class,
+						InvocationTracker.class
+				)
+				.initialize();
+
+		uncontainedCalendar = new CalendarService();
+		calendar = container.select( CalendarService.class ).get();
+		deliveryService = container.select( DeliveryService.class ).get();
+		priorityCalendar = container.select(
+				org.hibernate.beanvalidation.tck.tests.integration.cdi.executable.priority.CalendarService.class ).get();
+		invocationTracker = container.select( InvocationTracker.class ).get();
+
+		try {
+			calendar.createEvent( (short) -1 );
+			throw new IllegalStateException( "The validation interceptor is not bound to " + CalendarService.class.getName() );
+		}
+		catch (ConstraintViolationException e) {
+			// expected
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		container.shutdown();
+	}
+
+	@Benchmark
+	public Event uncontainedCreateEvent() {
+		return uncontainedCalendar.createEvent( "title" );
+	}
+
+	/**
+	 * {@link ExecutableType#NONE}.
+	 */
+	@Benchmark
+	public Event excludedCreateEventWithTypeNone() {
+		return calendar.createEvent( "title" );
+	}
+
+	/**
+	 * No executable type.
+	 */
+	@Benchmark
+	public Event excludedCreateEventWithoutType() {
+		return calendar.createEvent( 10 );
+	}
+
+	/**
+	 * A getter with {@link ExecutableType#NON_GETTER_METHODS}.
+	 */
+	@Benchmark
+	public Event excludedGetterWithTypeNonGetterMethods() {
+		return calendar.getEvent();
+	}
+
+	/**
+	 * A non-getter method with {@link ExecutableType#GETTER_METHODS}.
+	 */
+	@Benchmark
+	public Event excludedMethodWithTypeGetterMethods() {
+		return calendar.getSpecialEvent( 10 );
+	}
+
+	/**
+	 * A getter of a type with {@link ExecutableType#IMPLICIT}, i.e. the default settings.
+	 */
+	@Benchmark
+	public Object excludedGetterWithImplicitTypeOnTypeLevel() {
+		return deliveryService.getAnotherDelivery();
+	}
+
+	/**
+	 * {@link ExecutableType#NON_GETTER_METHODS}.
+	 */
+	@Benchmark
+	public Event validatedCreateEventWithTypeNonGetterMethods() {
+		return calendar.createEvent( (short) 10 );
+	}
+
+	/**
+	 * {@link ExecutableType#ALL}.
+	 */
+	@Benchmark
+	public Event validatedCreateEventWithTypeAll() {
+		return calendar.createEvent( 10.0 );
+	}
+
+	/**
+	 * {@link ExecutableType#NONE} together with {@link ExecutableType#NON_GETTER_METHODS}.
+	 */
+	@Benchmark
+	public void validatedCreateEventWithTypesNoneAndNonGetterMethods() {
+		calendar.createEvent( 10L );
+	}
+
+	/**
+	 * {@link ExecutableType#IMPLICIT}.
+	 */
+	@Benchmark
+	public void validatedFindDeliveryWithImplicitType() {
+		deliveryService.findDelivery( "id" );
+	}
+
+	/**
+	 * Validated between the interceptors of priority 4799 and 4801. The interceptors and the validator expect to be
+	 * invoked once, so the {@link InvocationTracker} is reset after each invocation.
+	 */
+	@Benchmark
+	public void validatedCreateEventBetweenPrioritizedInterceptors() {
+		priorityCalendar.createEvent( "name" );
+
+		invocationTracker.setEarlierInterceptorInvoked( false );
+		invocationTracker.setValidatorInvoked( false );
+		invocationTracker.setLaterInterceptorInvoked( false );
+	}
+}
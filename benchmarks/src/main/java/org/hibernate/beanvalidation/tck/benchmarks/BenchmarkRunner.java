@@ -0,0 +1,54 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks;
+
+import org.hibernate.beanvalidation.tck.benchmarks.bootstrap.BootstrapBenchmark;
+import org.hibernate.beanvalidation.tck.benchmarks.bootstrap.BootstrapClassloaderProfiler;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * The provider under test is selected via the {@code validation.provider} system property, exactly as for the TCK
+ * itself (see {@link TestUtil#getValidationProviderUnderTest()}). The property is handed down to the forked benchmark
+ * JVMs and the {@link GCProfiler} is always enabled, so every benchmark reports its allocation rate next to its score.
+ * The {@link BootstrapBenchmark} additionally reports the classes it loaded ({@link BootstrapClassloaderProfiler}).
+ * Any other argument is passed on to JMH.
+ */
+public class BenchmarkRunner {
+
+	private static final String VALIDATION_PROVIDER = "validation.provider";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		// fail early if the provider is not configured or not on the classpath
+		String providerClassName = TestUtil.getValidationProviderUnderTest().getClass().getName();
+
+		CommandLineOptions commandLineOptions = new CommandLineOptions( args );
+
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.parent( commandLineOptions )
+				.jvmArgsAppend( "-D" + VALIDATION_PROVIDER + "=" + providerClassName )
+				.addProfiler( GCProfiler.class )
+				.addProfiler( BootstrapClassloaderProfiler.class );
+
+		// publish machine readable results (jmh-result.json) unless asked otherwise
+		if ( !commandLineOptions.getResultFormat().hasValue() ) {
+			options.resultFormat( ResultFormatType.JSON );
+		}
+
+		new Runner( options.build() ).run();
+	}
+}
@@ -0,0 +1,156 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.xmlconfiguration.User;
+import org.hibernate.beanvalidation.tck.tests.xmlconfiguration.versioning.TestEntity;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time from the bootstrap of the provider under test to the end of the first {@code validate()} call,
+ * in a JVM which has not bootstrapped the provider yet.
+ * <p>
+ * Each fork executes the benchmark exactly once, so the score of a fork is a cold start and the percentiles of the
+ * result (e.g. {@code scorePercentiles} in {@code jmh-result.json}) are the median and p99 across the forks. Nothing is
+ * loaded upfront: the validated bean and the harness are first used within the measured call. The classes loaded by
+ * the bootstrap are reported by the {@link BootstrapClassloaderProfiler} enabled by the {@code BenchmarkRunner}
+ * ({@code ·class.load.norm}).
+ * <p>
+ * The {@link Scenario}s reuse the XML descriptors of the {@code xmlconfiguration} tests; the chosen
+ * {@code validation.xml} is exposed as {@code META-INF/validation.xml} by a {@link ValidationXmlClassLoader} set as
+ * context class loader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(30)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class BootstrapBenchmark {
+
+	private static final String XML_CONFIGURATION_PATH = "org/hibernate/beanvalidation/tck/tests/xmlconfiguration/";
+
+	private static final String VERSIONING_PATH = XML_CONFIGURATION_PATH + "versioning/";
+
+	public enum Scenario {
+		/**
+		 * No {@code validation.xml}, annotations only.
+		 */
+		NO_XML( null, null ) {
+			@Override
+			Object createBean() {
+				return new User();
+			}
+		},
+		/**
+		 * {@code validation-XmlConfigurationTest.xml} and its order and user constraint mappings.
+		 */
+		XML_CONFIGURATION( XML_CONFIGURATION_PATH + "validation-XmlConfigurationTest.xml", null ) {
+			@Override
+			Object createBean() {
+				return new User();
+			}
+		},
+		/**
+		 * The Bean Validation 1.0 descriptors of {@code xmlconfiguration.versioning}.
+		 */
+		VERSION_10( VERSIONING_PATH + "validation-Version10InValidationXmlTest.xml",
+				VERSIONING_PATH + "Version10InMappingXmlTest.xml" ) {
+			@Override
+			Object createBean() {
+				return new TestEntity();
+			}
+		},
+		/**
+		 * The Bean Validation 1.1 descriptors of {@code xmlconfiguration.versioning}.
+		 */
+		VERSION_11( VERSIONING_PATH + "validation-Version11InValidationXmlTest.xml",
+				VERSIONING_PATH + "Version11InMappingXmlTest.xml" ) {
+			@Override
+			Object createBean() {
+				return new TestEntity();
+			}
+		},
+		/**
+		 * The Bean Validation 2.0 descriptors of {@code xmlconfiguration.versioning}.
+		 */
+		VERSION_20( VERSIONING_PATH + "validation-Version20InValidationXmlTest.xml",
+				VERSIONING_PATH + "Version20InMappingXmlTest.xml" ) {
+			@Override
+			Object createBean() {
+				return new TestEntity();
+			}
+		};
+
+		private final String validationXml;
+
+		private final String mapping;
+
+		Scenario(String validationXml, String mapping) {
+			this.validationXml = validationXml;
+			this.mapping = mapping;
+		}
+
+		abstract Object createBean();
+	}
+
+	@Param
+	public Scenario scenario;
+
+	private ClassLoader classLoader;
+
+	@Setup
+	public void setUp() {
+		classLoader = new ValidationXmlClassLoader( BootstrapBenchmark.class.getClassLoader(), scenario.validationXml );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> bootstrapAndValidate() throws IOException {
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader( classLoader );
+
+		InputStream mapping = scenario.mapping == null ? null : classLoader.getResourceAsStream( scenario.mapping );
+		try {
+			Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+			if ( mapping != null ) {
+				configuration.addMapping( mapping );
+			}
+
+			try ( ValidatorFactory validatorFactory = configuration.buildValidatorFactory() ) {
+				return validatorFactory.getValidator().validate( scenario.createBean() );
+			}
+		}
+		finally {
+			// the mapping streams are closed by the client once the factory is built
+			if ( mapping != null ) {
+				mapping.close();
+			}
+			thread.setContextClassLoader( originalClassLoader );
+		}
+	}
+}
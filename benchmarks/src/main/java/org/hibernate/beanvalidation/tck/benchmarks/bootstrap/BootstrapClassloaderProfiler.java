@@ -0,0 +1,48 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.ClassloaderProfiler;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+/**
+ * {@link ClassloaderProfiler} only reporting the classes loaded by the {@link BootstrapBenchmark}: the other benchmarks
+ * measure warmed up operations, which are not expected to load any class.
+ */
+public class BootstrapClassloaderProfiler extends ClassloaderProfiler {
+
+	@Override
+	public String getDescription() {
+		return "Classloader profiling of " + BootstrapBenchmark.class.getSimpleName();
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+		if ( isBootstrapBenchmark( benchmarkParams ) ) {
+			super.beforeIteration( benchmarkParams, iterationParams );
+		}
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+			IterationResult result) {
+		if ( isBootstrapBenchmark( benchmarkParams ) ) {
+			return super.afterIteration( benchmarkParams, iterationParams, result );
+		}
+		return Collections.emptyList();
+	}
+
+	private static boolean isBootstrapBenchmark(BenchmarkParams benchmarkParams) {
+		return benchmarkParams.getBenchmark().startsWith( BootstrapBenchmark.class.getName() + "." );
+	}
+}
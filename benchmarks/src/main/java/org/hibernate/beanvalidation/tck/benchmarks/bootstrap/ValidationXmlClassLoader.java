@@ -0,0 +1,56 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.bootstrap;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+
+/**
+ * Class loader exposing a given resource of the TCK as {@code META-INF/validation.xml}, the way the deployments of
+ * the TCK do with {@code withValidationXml()}. All the other resources and classes are delegated to the parent.
+ * <p>
+ * Without a resource, {@code META-INF/validation.xml} is hidden, so that the provider is bootstrapped without any
+ * XML configuration whatever is on the class path.
+ */
+class ValidationXmlClassLoader extends ClassLoader {
+
+	private static final String VALIDATION_XML = "META-INF/validation.xml";
+
+	private final URL validationXml;
+
+	ValidationXmlClassLoader(ClassLoader parent, String validationXmlResource) {
+		super( parent );
+
+		if ( validationXmlResource == null ) {
+			this.validationXml = null;
+		}
+		else {
+			this.validationXml = parent.getResource( validationXmlResource );
+			if ( validationXml == null ) {
+				throw new IllegalArgumentException( "Unable to find " + validationXmlResource );
+			}
+		}
+	}
+
+	@Override
+	public URL getResource(String name) {
+		if ( VALIDATION_XML.equals( name ) ) {
+			return validationXml;
+		}
+		return super.getResource( name );
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		if ( VALIDATION_XML.equals( name ) ) {
+			return validationXml == null ? Collections.emptyEnumeration() : Collections.enumeration( Collections.singleton( validationXml ) );
+		}
+		return super.getResources( name );
+	}
+}
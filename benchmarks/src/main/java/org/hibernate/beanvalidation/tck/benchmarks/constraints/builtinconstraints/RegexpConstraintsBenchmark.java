@@ -0,0 +1,156 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.constraints.builtinconstraints;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of distinct values against {@link Pattern} and {@link Email}, using the regular expression of
+ * {@code PatternConstraintTest}, next to the same values matched against a precompiled {@link java.util.regex.Pattern}
+ * and against a pattern compiled for each value.
+ * <p>
+ * The difference between {@link #validatePattern()} and {@link #validateNotNull()} is the cost of the {@code Pattern}
+ * constraint; it should be close to {@link #precompiledPattern()} and far from {@link #compiledPattern()}. Each
+ * benchmark declares one operation per value, so the scores are in nanoseconds per value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class RegexpConstraintsBenchmark {
+
+	private static final String REGEXP = "[a-z][a-z] \\d\\d";
+
+	private static final int VALUE_COUNT = 1_024;
+
+	private final java.util.regex.Pattern precompiledPattern = java.util.regex.Pattern.compile( REGEXP );
+
+	private final String[] values = new String[VALUE_COUNT];
+
+	private final String[] emails = new String[VALUE_COUNT];
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+
+		for ( int i = 0; i < VALUE_COUNT; i++ ) {
+			values[i] = String.format( "%c%c %02d", 'a' + i % 26, 'a' + i / 26 % 26, i % 100 );
+			emails[i] = "user" + i + "@example.com";
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUE_COUNT)
+	public int precompiledPattern() {
+		int matches = 0;
+		for ( String value : values ) {
+			if ( precompiledPattern.matcher( value ).matches() ) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUE_COUNT)
+	public int compiledPattern() {
+		int matches = 0;
+		for ( String value : values ) {
+			if ( java.util.regex.Pattern.compile( REGEXP ).matcher( value ).matches() ) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUE_COUNT)
+	public int validateNotNull() {
+		int violations = 0;
+		for ( String value : values ) {
+			violations += validator.validateValue( RegexpEntity.class, "reference", value ).size();
+		}
+		return violations;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUE_COUNT)
+	public int validatePattern() {
+		int violations = 0;
+		for ( String value : values ) {
+			violations += validator.validateValue( RegexpEntity.class, "pattern", value ).size();
+		}
+		return violations;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUE_COUNT)
+	public int validateEmail() {
+		int violations = 0;
+		for ( String email : emails ) {
+			violations += validator.validateValue( RegexpEntity.class, "email", email ).size();
+		}
+		return violations;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUE_COUNT)
+	public int validateEmailWithRegexp() {
+		int violations = 0;
+		for ( String email : emails ) {
+			violations += validator.validateValue( RegexpEntity.class, "emailWithRegexp", email ).size();
+		}
+		return violations;
+	}
+
+	private static class RegexpEntity {
+
+		@NotNull
+		private String reference;
+
+		@Pattern(regexp = REGEXP)
+		private String pattern;
+
+		@Email
+		private String email;
+
+		@Email(regexp = "user\\d+@example\\.com")
+		private String emailWithRegexp;
+	}
+}
@@ -0,0 +1,254 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.constraints.containerelement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Validator#validate(Object, Class[])} on beans hosting containers of 10³ to 10⁶ elements, declared as
+ * the models of the {@code constraints.containerelement} tests ({@code TypeWithList1}, {@code TypeWithSet1},
+ * {@code TypeWithMap1} of the map key and map value tests, and a list of {@code Optional}s).
+ * <p>
+ * Each benchmark declares one operation per element, so the scores are in nanoseconds per element and the
+ * {@code gc.alloc.rate.norm} of the GC profiler in bytes per element. The containers are either all valid or sparsely
+ * invalid, with one invalid element out of {@value #INVALID_ELEMENT_INTERVAL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ContainerElementBenchmark {
+
+	private static final int INVALID_ELEMENT_INTERVAL = 1_000;
+
+	/**
+	 * The characters which are whitespace both for {@link Character#isWhitespace(char)} and for {@link String#trim()},
+	 * used as the digits of the blank markers.
+	 */
+	private static final char[] BLANK_DIGITS = { ' ', '\t', '\n', '\u000B', '\f', '\r', '\u001C', '\u001D', '\u001E', '\u001F' };
+
+	/**
+	 * The length of the blank markers, enough for 10⁶ distinct markers.
+	 */
+	private static final int BLANK_MARKER_LENGTH = 6;
+
+	public enum ContainerType {
+		LIST {
+			@Override
+			Object createBean(String[] elements) {
+				TypeWithList bean = new TypeWithList();
+				bean.names = new ArrayList<>( elements.length );
+				for ( String element : elements ) {
+					bean.names.add( element );
+				}
+				return bean;
+			}
+		},
+		SET {
+			@Override
+			Object createBean(String[] elements) {
+				TypeWithSet bean = new TypeWithSet();
+				bean.names = new HashSet<>( elements.length * 2 );
+				for ( String element : elements ) {
+					bean.names.add( element );
+				}
+				return bean;
+			}
+		},
+		MAP_KEY {
+			@Override
+			Object createBean(String[] elements) {
+				TypeWithMapKey bean = new TypeWithMapKey();
+				bean.nameMap = new HashMap<>( elements.length * 2 );
+				for ( String element : elements ) {
+					bean.nameMap.put( element, "value" );
+				}
+				return bean;
+			}
+		},
+		MAP_VALUE {
+			@Override
+			Object createBean(String[] elements) {
+				TypeWithMapValue bean = new TypeWithMapValue();
+				bean.nameMap = new HashMap<>( elements.length * 2 );
+				for ( int i = 0; i < elements.length; i++ ) {
+					bean.nameMap.put( "key" + i, elements[i] );
+				}
+				return bean;
+			}
+		},
+		LIST_OF_OPTIONAL {
+			@Override
+			Object createBean(String[] elements) {
+				TypeWithListOfOptional bean = new TypeWithListOfOptional();
+				bean.stringOptionals = new ArrayList<>( elements.length );
+				for ( String element : elements ) {
+					bean.stringOptionals.add( Optional.of( element ) );
+				}
+				return bean;
+			}
+		};
+
+		abstract Object createBean(String[] elements);
+	}
+
+	@Param
+	public ContainerType containerType;
+
+	@Param({ "true", "false" })
+	public boolean sparselyInvalid;
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private Object beanWith1k;
+
+	private Object beanWith10k;
+
+	private Object beanWith100k;
+
+	private Object beanWith1m;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+
+		beanWith1k = containerType.createBean( createElements( 1_000 ) );
+		beanWith10k = containerType.createBean( createElements( 10_000 ) );
+		beanWith100k = containerType.createBean( createElements( 100_000 ) );
+		beanWith1m = containerType.createBean( createElements( 1_000_000 ) );
+
+		checkViolations( beanWith1k, 1_000 );
+		checkViolations( beanWith1m, 1_000_000 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1_000)
+	public Set<ConstraintViolation<Object>> validate1k() {
+		return validator.validate( beanWith1k );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(10_000)
+	public Set<ConstraintViolation<Object>> validate10k() {
+		return validator.validate( beanWith10k );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(100_000)
+	public Set<ConstraintViolation<Object>> validate100k() {
+		return validator.validate( beanWith100k );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1_000_000)
+	public Set<ConstraintViolation<Object>> validate1m() {
+		return validator.validate( beanWith1m );
+	}
+
+	private void checkViolations(Object bean, int size) {
+		int expectedViolations = sparselyInvalid ? size / INVALID_ELEMENT_INTERVAL : 0;
+		int violations = validator.validate( bean ).size();
+		if ( violations != expectedViolations ) {
+			throw new IllegalStateException( "Expected " + expectedViolations + " violations for the " + containerType + " of "
+					+ size + " elements but got " + violations );
+		}
+	}
+
+	/**
+	 * Creates distinct elements, so that they can be used in sets and as map keys; the invalid elements are blank
+	 * markers of the same length.
+	 */
+	private String[] createElements(int size) {
+		String[] elements = new String[size];
+		for ( int i = 0; i < size; i++ ) {
+			if ( sparselyInvalid && i % INVALID_ELEMENT_INTERVAL == INVALID_ELEMENT_INTERVAL - 1 ) {
+				elements[i] = createBlankMarker( i );
+			}
+			else {
+				elements[i] = "name" + i;
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Creates a blank string of {@value #BLANK_MARKER_LENGTH} characters, distinct for each index: the digits of the
+	 * index are written with whitespace characters.
+	 */
+	private static String createBlankMarker(int index) {
+		char[] marker = new char[BLANK_MARKER_LENGTH];
+		int remainder = index;
+		for ( int i = BLANK_MARKER_LENGTH - 1; i >= 0; i-- ) {
+			marker[i] = BLANK_DIGITS[remainder % BLANK_DIGITS.length];
+			remainder /= BLANK_DIGITS.length;
+		}
+		return new String( marker );
+	}
+
+	private static class TypeWithList {
+
+		private List<@NotNull @NotBlank String> names;
+	}
+
+	private static class TypeWithSet {
+
+		private Set<@NotNull @NotBlank String> names;
+	}
+
+	private static class TypeWithMapKey {
+
+		private Map<@NotBlank String, String> nameMap;
+	}
+
+	private static class TypeWithMapValue {
+
+		private Map<String, @NotBlank String> nameMap;
+	}
+
+	private static class TypeWithListOfOptional {
+
+		private List<Optional<@NotBlank String>> stringOptionals;
+	}
+}
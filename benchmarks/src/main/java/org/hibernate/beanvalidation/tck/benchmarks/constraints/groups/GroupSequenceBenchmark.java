@@ -0,0 +1,118 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.constraints.groups;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit.Groups;
+import org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit.SequencedBean;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of {@link SequencedBean} against the sequences of {@link Groups}, the model of
+ * {@code GroupSequenceShortCircuitTest}, to show how the expansion and the evaluation of a sequence grow with its
+ * length and nesting.
+ * <p>
+ * When the first group fails, the score should not depend on the length of the sequence, as the following groups are
+ * not evaluated; {@code GroupSequenceShortCircuitTest} checks that they are not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class GroupSequenceBenchmark {
+
+	public enum Sequence {
+		FLAT_1( Groups.Sequence1.class, 1 ),
+		FLAT_2( Groups.Sequence2.class, 2 ),
+		FLAT_4( Groups.Sequence4.class, 4 ),
+		FLAT_8( Groups.Sequence8.class, 8 ),
+		FLAT_16( Groups.Sequence16.class, 16 ),
+		/**
+		 * Four sequences of four groups.
+		 */
+		NESTED_16( Groups.NestedSequence16.class, 16 ),
+		/**
+		 * 16 sequences, each containing a group and the next sequence.
+		 */
+		CHAINED_16( Groups.ChainedSequence1.class, 16 );
+
+		private final Class<?> group;
+
+		private final int length;
+
+		Sequence(Class<?> group, int length) {
+			this.group = group;
+			this.length = length;
+		}
+	}
+
+	public enum FailingGroup {
+		NONE,
+		FIRST,
+		LAST
+	}
+
+	@Param
+	public Sequence sequence;
+
+	@Param
+	public FailingGroup failingGroup;
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private SequencedBean bean;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+
+		bean = new SequencedBean();
+		switch ( failingGroup ) {
+			case FIRST:
+				bean.invalidate( 1 );
+				break;
+			case LAST:
+				bean.invalidate( sequence.length );
+				break;
+			default:
+				break;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SequencedBean>> validate() {
+		return validator.validate( bean, sequence.group );
+	}
+}
@@ -0,0 +1,188 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidationException;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link MessageInterpolator#interpolate(String, MessageInterpolator.Context, Locale)} of the default message
+ * interpolator of the provider under test, per {@link TemplateType} and per locale, with one thread and with as many
+ * threads as available processors sharing the interpolator.
+ * <p>
+ * The templates are those exercised by {@code MessageInterpolationTest} and
+ * {@code ExpressionLanguageMessageInterpolationTest}: literal messages, constraint attributes, EL expressions using
+ * the validated value and the formatter, and message keys of the provider bundle referencing constraint attributes.
+ * The nested templates are resolved from the {@code ValidationMessages} bundle of the benchmarks, whose value refers to
+ * a key of the provider bundle, as in the recursive interpolation of {@code MessageInterpolationTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class MessageInterpolationBenchmark {
+
+	public enum TemplateType {
+		/**
+		 * A message without any parameter or expression.
+		 */
+		LITERAL( "literal", null ),
+		/**
+		 * A message referencing the attributes of the constraint.
+		 */
+		PARAMETER( "parameter", null ),
+		/**
+		 * A message with EL expressions formatting the validated value.
+		 */
+		EXPRESSION( "expression", new BigDecimal( "98.1235" ) ),
+		/**
+		 * A message key resolved from the bundle of the provider, whose message references the attributes of the
+		 * constraint.
+		 */
+		PROVIDER_KEY( "providerKey", null ),
+		/**
+		 * A message key resolved from the user bundle, whose message is a message key of the provider bundle
+		 * referencing the attributes of the constraint.
+		 */
+		NESTED( "nested", null );
+
+		private final String property;
+
+		private final Object validatedValue;
+
+		TemplateType(String property, Object validatedValue) {
+			this.property = property;
+			this.validatedValue = validatedValue;
+		}
+	}
+
+	@Param
+	public TemplateType templateType;
+
+	@Param({ "en", "de", "fr" })
+	public String locale;
+
+	private ValidatorFactory validatorFactory;
+
+	private MessageInterpolator messageInterpolator;
+
+	private String messageTemplate;
+
+	private MessageInterpolator.Context context;
+
+	private Locale interpolationLocale;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		messageInterpolator = validatorFactory.getMessageInterpolator();
+
+		ConstraintDescriptor<?> descriptor = validatorFactory.getValidator()
+				.getConstraintsForClass( InterpolatedBean.class )
+				.getConstraintsForProperty( templateType.property )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+		messageTemplate = descriptor.getMessageTemplate();
+		context = new InterpolationContext( descriptor, templateType.validatedValue );
+		interpolationLocale = Locale.forLanguageTag( locale );
+
+		String message = messageInterpolator.interpolate( messageTemplate, context, interpolationLocale );
+		if ( message.contains( "{" ) ) {
+			throw new IllegalStateException( "The " + templateType + " template has not been fully interpolated: " + message );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String interpolate() {
+		return messageInterpolator.interpolate( messageTemplate, context, interpolationLocale );
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String interpolateConcurrently() {
+		return messageInterpolator.interpolate( messageTemplate, context, interpolationLocale );
+	}
+
+	private static class InterpolationContext implements MessageInterpolator.Context {
+
+		private final ConstraintDescriptor<?> constraintDescriptor;
+
+		private final Object validatedValue;
+
+		private InterpolationContext(ConstraintDescriptor<?> constraintDescriptor, Object validatedValue) {
+			this.constraintDescriptor = constraintDescriptor;
+			this.validatedValue = validatedValue;
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return constraintDescriptor;
+		}
+
+		@Override
+		public Object getValidatedValue() {
+			return validatedValue;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			throw new ValidationException( "Unwrapping to " + type + " is not supported" );
+		}
+	}
+
+	private static class InterpolatedBean {
+
+		@NotNull(message = "may not be null")
+		private String literal;
+
+		@Size(message = "size must be between {min} and {max}", min = 5, max = 10)
+		private String parameter;
+
+		@Min(message = "${formatter.format('%1$.2f (that is, %2$.4f)', validatedValue, validatedValue)} must be larger than {value}",
+				value = 100)
+		private BigDecimal expression;
+
+		@Size(min = 5, max = 10)
+		private String providerKey;
+
+		@Size(message = "{org.hibernate.beanvalidation.tck.benchmarks.messageinterpolation.nested}", min = 5, max = 10)
+		private String nested;
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.metadata;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.MethodDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.hibernate.beanvalidation.tck.tests.metadata.Customer;
+import org.hibernate.beanvalidation.tck.tests.metadata.CustomerService;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the retrieval of the constraint metadata on the model of the metadata tests ({@link Customer} and
+ * {@link CustomerService}), the way {@code TestUtil#getPropertyDescriptor()} and {@code TestUtil#getMethodDescriptor()}
+ * retrieve it.
+ * <p>
+ * The {@code cold*} benchmarks run once per iteration against a validator factory which has not been used yet, i.e.
+ * they measure the construction of the metadata. The {@code warm*} benchmarks repeat the lookups against the same
+ * factory, i.e. they measure the cost of a lookup once the metadata is built. Together with the allocations reported
+ * by the GC profiler, {@link #warmGetConstraintsForClassRepeated(DescriptorIdentity)} tells whether the provider
+ * returns cached descriptors: its {@code sameDescriptor} and {@code newDescriptor} counters report how many lookups
+ * returned the descriptor instance of the previous lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class BeanDescriptorBenchmark {
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 200)
+	public BeanDescriptor coldGetConstraintsForClass(ColdValidator cold) {
+		return cold.validator.getConstraintsForClass( Customer.class );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 200)
+	public PropertyDescriptor coldGetConstraintsForProperty(ColdValidator cold) {
+		return cold.validator.getConstraintsForClass( Customer.class ).getConstraintsForProperty( "orderList" );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 200)
+	public MethodDescriptor coldGetConstraintsForMethod(ColdValidator cold) {
+		return cold.validator.getConstraintsForClass( CustomerService.class )
+				.getConstraintsForMethod( "createCustomer", String.class, String.class );
+	}
+
+	@Benchmark
+	public BeanDescriptor warmGetConstraintsForClass() {
+		return validator.getConstraintsForClass( Customer.class );
+	}
+
+	@Benchmark
+	public PropertyDescriptor warmGetConstraintsForProperty() {
+		return validator.getConstraintsForClass( Customer.class ).getConstraintsForProperty( "orderList" );
+	}
+
+	@Benchmark
+	public MethodDescriptor warmGetConstraintsForMethod() {
+		return validator.getConstraintsForClass( CustomerService.class )
+				.getConstraintsForMethod( "createCustomer", String.class, String.class );
+	}
+
+	@Benchmark
+	public BeanDescriptor warmGetConstraintsForClassRepeated(DescriptorIdentity identity) {
+		BeanDescriptor beanDescriptor = validator.getConstraintsForClass( Customer.class );
+		identity.record( beanDescriptor );
+		return beanDescriptor;
+	}
+
+	/**
+	 * Provides a validator from a new validator factory for each iteration of the cold benchmarks.
+	 */
+	@State(Scope.Thread)
+	public static class ColdValidator {
+
+		private ValidatorFactory validatorFactory;
+
+		private Validator validator;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			// not using the factory pool of TestUtil, the factory must not have been used before
+			validatorFactory = TestUtil.getConfigurationUnderTest().buildValidatorFactory();
+			validator = validatorFactory.getValidator();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			validatorFactory.close();
+		}
+	}
+
+	/**
+	 * Counts the lookups returning the same descriptor instance as the previous lookup and those returning a new one.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class DescriptorIdentity {
+
+		public long sameDescriptor;
+
+		public long newDescriptor;
+
+		private Object previousDescriptor;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			sameDescriptor = 0;
+			newDescriptor = 0;
+			previousDescriptor = null;
+		}
+
+		private void record(Object descriptor) {
+			if ( descriptor == previousDescriptor ) {
+				sameDescriptor++;
+			}
+			else {
+				newDescriptor++;
+			}
+			previousDescriptor = descriptor;
+		}
+	}
+}
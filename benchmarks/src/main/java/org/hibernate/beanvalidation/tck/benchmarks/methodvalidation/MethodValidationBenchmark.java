@@ -0,0 +1,222 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.methodvalidation;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraintvalidation.SupportedValidationTarget;
+import javax.validation.constraintvalidation.ValidationTarget;
+
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Item;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Order;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.service.IOrderService;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.service.OrderServiceImpl;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.hibernate.beanvalidation.tck.util.ValidationInvocationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-call overhead of method validation the way the method validation tests apply it, i.e. through
+ * {@link TestUtil#getValidatingProxy(Object, Class[], Validator, Class[])} and {@link ValidationInvocationHandler}.
+ * <p>
+ * Each service call is invoked directly, through a proxy which does not validate and through a validating proxy, so
+ * that the differences between the scores of an {@link Invocation} give the cost of the proxy and of the validation.
+ * The {@link Constraints} of the called method isolate the cost of the parameter, cross-parameter and cascaded return
+ * value constraints; the service of the {@code methodvalidation} tests is always invalid and measures the cost of a
+ * rejected call. The allocations per call are the {@code gc.alloc.rate.norm} of the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class MethodValidationBenchmark {
+
+	public enum Invocation {
+		DIRECT,
+		PROXY,
+		VALIDATING_PROXY
+	}
+
+	public enum Constraints {
+		NONE,
+		PARAMETER,
+		CROSS_PARAMETER,
+		CASCADED_RETURN_VALUE,
+		/**
+		 * {@link IOrderService#placeOrder(String, Item, int)}, whose cross-parameter constraint is never satisfied.
+		 */
+		ORDER_SERVICE
+	}
+
+	@Param
+	public Invocation invocation;
+
+	@Param
+	public Constraints constraints;
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private Supplier<Order> call;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+
+		String customer = "Bob";
+		Item item = new Item( "Hammer" );
+		int quantity = 2;
+
+		OrderPlacement orderPlacement = wrap( new OrderPlacementImpl(), OrderPlacement.class );
+		switch ( constraints ) {
+			case NONE:
+				call = () -> orderPlacement.placeOrder( customer, item, quantity );
+				break;
+			case PARAMETER:
+				call = () -> orderPlacement.placeOrderWithParameterConstraints( customer, item, quantity );
+				break;
+			case CROSS_PARAMETER:
+				call = () -> orderPlacement.placeOrderWithCrossParameterConstraint( customer, item, quantity );
+				break;
+			case CASCADED_RETURN_VALUE:
+				call = () -> orderPlacement.placeOrderWithCascadedReturnValue( customer, item, quantity );
+				break;
+			case ORDER_SERVICE:
+				IOrderService orderService = wrap( new OrderServiceImpl(), IOrderService.class );
+				call = () -> orderService.placeOrder( customer, item, quantity );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unexpected constraints: " + constraints );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Object invoke() {
+		try {
+			return call.get();
+		}
+		catch (ConstraintViolationException e) {
+			return e;
+		}
+	}
+
+	private <T> T wrap(T service, Class<T> serviceType) {
+		switch ( invocation ) {
+			case DIRECT:
+				return service;
+			case PROXY:
+				return serviceType.cast( Proxy.newProxyInstance(
+						service.getClass().getClassLoader(),
+						new Class<?>[] { serviceType },
+						(proxy, method, args) -> method.invoke( service, args ) ) );
+			case VALIDATING_PROXY:
+				return TestUtil.getValidatingProxy( service, new Class<?>[] { serviceType }, validator );
+			default:
+				throw new IllegalArgumentException( "Unexpected invocation: " + invocation );
+		}
+	}
+
+	/**
+	 * Declares {@link IOrderService#placeOrder(String, Item, int)} once per kind of constraint, with constraints which
+	 * are satisfied by the benchmarked calls.
+	 */
+	public interface OrderPlacement {
+
+		Order placeOrder(String customer, Item item, int quantity);
+
+		Order placeOrderWithParameterConstraints(@NotNull String customer, @Valid Item item, @Min(1) int quantity);
+
+		@ConsistentOrderParameters
+		Order placeOrderWithCrossParameterConstraint(String customer, Item item, int quantity);
+
+		@Valid
+		Order placeOrderWithCascadedReturnValue(String customer, Item item, int quantity);
+	}
+
+	public static class OrderPlacementImpl implements OrderPlacement {
+
+		private final Order order = new Order( "Hammer x 2" );
+
+		@Override
+		public Order placeOrder(String customer, Item item, int quantity) {
+			return order;
+		}
+
+		@Override
+		public Order placeOrderWithParameterConstraints(String customer, Item item, int quantity) {
+			return order;
+		}
+
+		@Override
+		public Order placeOrderWithCrossParameterConstraint(String customer, Item item, int quantity) {
+			return order;
+		}
+
+		@Override
+		public Order placeOrderWithCascadedReturnValue(String customer, Item item, int quantity) {
+			return order;
+		}
+	}
+
+	@Constraint(validatedBy = ConsistentOrderParametersValidator.class)
+	@Target(METHOD)
+	@Retention(RUNTIME)
+	public @interface ConsistentOrderParameters {
+
+		String message() default "{ConsistentOrderParameters.message}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@SupportedValidationTarget(value = ValidationTarget.PARAMETERS)
+	public static class ConsistentOrderParametersValidator implements ConstraintValidator<ConsistentOrderParameters, Object[]> {
+
+		@Override
+		public boolean isValid(Object[] parameters, ConstraintValidatorContext context) {
+			return parameters[0] != null && parameters[1] != null && (Integer) parameters[2] > 0;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.methodvalidation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.ParameterNameProvider;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.executable.ExecutableValidator;
+
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.User;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ExecutableValidator#validateParameters(Object, Method, Object[], Class[])} and
+ * {@link ExecutableValidator#validateConstructorParameters(Constructor, Object[], Class[])} on
+ * {@code User#setNames(String, CharSequence)} and the matching constructor of the {@code methodvalidation} model, with
+ * valid and with invalid arguments, and counts the calls of the parameter name provider.
+ * <p>
+ * The parameter names only appear in the paths of the violations: a provider retrieving them when they are needed
+ * reports no {@code getParameterNamesCalls} for valid arguments, and a provider caching them reports no call
+ * for invalid arguments either once the warmup is over.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ParameterNameProviderBenchmark {
+
+	public enum Executable {
+		METHOD,
+		CONSTRUCTOR
+	}
+
+	public enum Arguments {
+		VALID( "Bob", "Smith" ),
+		/**
+		 * Violates the constraints of both parameters.
+		 */
+		INVALID( null, "S" );
+
+		private final Object[] values;
+
+		Arguments(Object... values) {
+			this.values = values;
+		}
+	}
+
+	@Param
+	public Executable executable;
+
+	@Param
+	public Arguments arguments;
+
+	private ValidatorFactory validatorFactory;
+
+	private CountingParameterNameProvider parameterNameProvider;
+
+	private Supplier<Set<ConstraintViolation<User>>> call;
+
+	@Setup
+	public void setUp() throws Exception {
+		Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+		parameterNameProvider = new CountingParameterNameProvider( configuration.getDefaultParameterNameProvider() );
+		validatorFactory = configuration.parameterNameProvider( parameterNameProvider )
+				.buildValidatorFactory();
+		Validator validator = validatorFactory.getValidator();
+		ExecutableValidator executableValidator = validator.forExecutables();
+
+		Object[] parameterValues = arguments.values;
+		switch ( executable ) {
+			case METHOD:
+				User user = new User();
+				Method method = User.class.getMethod( "setNames", String.class, CharSequence.class );
+				call = () -> executableValidator.validateParameters( user, method, parameterValues );
+				break;
+			case CONSTRUCTOR:
+				Constructor<User> constructor = User.class.getConstructor( String.class, CharSequence.class );
+				call = () -> executableValidator.validateConstructorParameters( constructor, parameterValues );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unexpected executable: " + executable );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateParameters(ParameterNameProviderCalls calls) {
+		parameterNameProvider.getParameterNamesCount = 0;
+		Set<ConstraintViolation<User>> violations = call.get();
+		calls.record( parameterNameProvider.getParameterNamesCount );
+		return violations;
+	}
+
+	/**
+	 * Counts the {@code getParameterNames()} calls and the validations of an iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class ParameterNameProviderCalls {
+
+		public long getParameterNamesCalls;
+
+		public long validations;
+
+		private void record(int getParameterNamesCount) {
+			getParameterNamesCalls += getParameterNamesCount;
+			validations++;
+		}
+	}
+
+	/**
+	 * Returns the parameter names of the given provider and counts the {@code getParameterNames()} calls.
+	 */
+	private static class CountingParameterNameProvider implements ParameterNameProvider {
+
+		private final ParameterNameProvider delegate;
+
+		private int getParameterNamesCount;
+
+		private CountingParameterNameProvider(ParameterNameProvider delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public List<String> getParameterNames(Constructor<?> constructor) {
+			getParameterNamesCount++;
+			return delegate.getParameterNames( constructor );
+		}
+
+		@Override
+		public List<String> getParameterNames(Method method) {
+			getParameterNamesCount++;
+			return delegate.getParameterNames( method );
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.time;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.hibernate.beanvalidation.tck.tests.time.FixedClockProvider;
+import org.hibernate.beanvalidation.tck.tests.time.PastDummyEntity;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of beans with temporal constraints against a clock provider which spends
+ * {@link #clockLatency} nanoseconds in each {@link ClockProvider#getClock()} call, the way a clock synchronized with a
+ * remote time service would.
+ * <p>
+ * The beans are the {@link PastDummyEntity} of {@code ClockProviderPastTest} (13 constraints) and {@link TemporalBean}
+ * (240 constraints across the {@code @Past}, {@code @PastOrPresent}, {@code @Future} and {@code @FutureOrPresent}
+ * constraints and the absolute and partial temporal types, declared by a generated XML mapping). The {@link ClockCalls}
+ * counters report the {@code getClock()} calls, the validations and the validated constraints of an iteration: a
+ * provider retrieving the clock once per validation reports as many calls as validations whatever the number of
+ * constraints, and a provider retrieving it when initializing the constraint validators reports no call at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ClockProviderBenchmark {
+
+	private static final ZonedDateTime REFERENCE_TIME = ZonedDateTime.of( 2016, 7, 6, 12, 0, 0, 0, ZoneId.of( "Europe/Berlin" ) );
+
+	public enum Model {
+		DUMMY_ENTITY {
+			@Override
+			Object createBean() {
+				return new PastDummyEntity( REFERENCE_TIME.minusYears( 5 ) );
+			}
+		},
+		TEMPORAL_BEAN {
+			@Override
+			Object createBean() {
+				return new TemporalBean( REFERENCE_TIME );
+			}
+		};
+
+		abstract Object createBean();
+	}
+
+	@Param
+	public Model model;
+
+	/**
+	 * The time spent in each {@code getClock()} call, in nanoseconds.
+	 */
+	@Param({ "0", "1000" })
+	public long clockLatency;
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private CountingClockProvider clockProvider;
+
+	private Object bean;
+
+	private int constraintCount;
+
+	@Setup
+	public void setUp() throws IOException {
+		clockProvider = new CountingClockProvider( new FixedClockProvider( REFERENCE_TIME ), clockLatency );
+		try ( InputStream mapping = TemporalBean.createConstraintMapping() ) {
+			validatorFactory = TestUtil.getConfigurationUnderTest()
+					.clockProvider( clockProvider )
+					.addMapping( mapping )
+					.buildValidatorFactory();
+		}
+		validator = validatorFactory.getValidator();
+
+		bean = model.createBean();
+		for ( PropertyDescriptor property : validator.getConstraintsForClass( bean.getClass() ).getConstrainedProperties() ) {
+			constraintCount += property.getConstraintDescriptors().size();
+		}
+
+		Set<ConstraintViolation<Object>> violations = validator.validate( bean );
+		if ( !violations.isEmpty() ) {
+			throw new IllegalStateException( "The " + model + " model should be valid: " + violations );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validate(ClockCalls calls) {
+		clockProvider.getClockCount = 0;
+		Set<ConstraintViolation<Object>> violations = validator.validate( bean );
+		calls.record( clockProvider.getClockCount, constraintCount );
+		return violations;
+	}
+
+	/**
+	 * Counts the {@code getClock()} calls, the validations and the validated constraints of an iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class ClockCalls {
+
+		public long getClockCalls;
+
+		public long validations;
+
+		public long constraints;
+
+		private void record(int getClockCount, int constraintCount) {
+			getClockCalls += getClockCount;
+			validations++;
+			constraints += constraintCount;
+		}
+	}
+
+	/**
+	 * Returns the clock of the given clock provider after spending the given time, and counts the {@code getClock()}
+	 * calls.
+	 */
+	private static class CountingClockProvider implements ClockProvider {
+
+		private final ClockProvider delegate;
+
+		private final long latency;
+
+		private int getClockCount;
+
+		private CountingClockProvider(ClockProvider delegate, long latency) {
+			this.delegate = delegate;
+			this.latency = latency;
+		}
+
+		@Override
+		public Clock getClock() {
+			getClockCount++;
+
+			long start = System.nanoTime();
+			while ( System.nanoTime() - start < latency ) {
+				// simulates the synchronization with a time service
+			}
+
+			return delegate.getClock();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.time;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.PastOrPresent;
+
+/**
+ * A bean with a past and a future value of each of the {@link Instant}, {@link LocalDate} and {@link ZonedDateTime}
+ * types of {@code *DummyEntity} and of the {@link LocalTime}, {@link MonthDay} and {@link OffsetTime} types of
+ * {@code *RelativePartialDummyEntity}.
+ * <p>
+ * Its constraints are declared by the mapping of {@link #createConstraintMapping()}: 10 {@link Past} and 10
+ * {@link PastOrPresent} constraints on each past value, 10 {@link Future} and 10 {@link FutureOrPresent} constraints
+ * on each future value, 240 constraints in total. All the constraints are satisfied as long as the current time of the
+ * clock is the given reference time, the day of the year and the time of day of which are at least one day and one
+ * hour away from their bounds.
+ */
+public class TemporalBean {
+
+	private static final String[] TYPES = { "Instant", "LocalDate", "ZonedDateTime", "LocalTime", "MonthDay", "OffsetTime" };
+
+	private static final int DECLARATIONS_PER_CONSTRAINT = 10;
+
+	private final Instant pastInstant;
+
+	private final LocalDate pastLocalDate;
+
+	private final ZonedDateTime pastZonedDateTime;
+
+	private final LocalTime pastLocalTime;
+
+	private final MonthDay pastMonthDay;
+
+	private final OffsetTime pastOffsetTime;
+
+	private final Instant futureInstant;
+
+	private final LocalDate futureLocalDate;
+
+	private final ZonedDateTime futureZonedDateTime;
+
+	private final LocalTime futureLocalTime;
+
+	private final MonthDay futureMonthDay;
+
+	private final OffsetTime futureOffsetTime;
+
+	public TemporalBean(ZonedDateTime referenceTime) {
+		ZonedDateTime past = referenceTime.minusDays( 1 ).minusHours( 1 );
+		ZonedDateTime future = referenceTime.plusDays( 1 ).plusHours( 1 );
+
+		pastInstant = past.toInstant();
+		pastLocalDate = past.toLocalDate();
+		pastZonedDateTime = past;
+		pastLocalTime = past.toLocalTime();
+		pastMonthDay = MonthDay.from( past );
+		pastOffsetTime = OffsetTime.from( past );
+
+		futureInstant = future.toInstant();
+		futureLocalDate = future.toLocalDate();
+		futureZonedDateTime = future;
+		futureLocalTime = future.toLocalTime();
+		futureMonthDay = MonthDay.from( future );
+		futureOffsetTime = OffsetTime.from( future );
+	}
+
+	/**
+	 * Returns an XML constraint mapping declaring the constraints of this bean. The declarations of a constraint on a
+	 * field differ by their message, so that they are not merged into a single constraint.
+	 */
+	public static InputStream createConstraintMapping() {
+		StringBuilder mapping = new StringBuilder()
+				.append( "<constraint-mappings xmlns=\"http://xmlns.jcp.org/xml/ns/validation/mapping\"\n" )
+				.append( "        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" )
+				.append( "        xsi:schemaLocation=\"http://xmlns.jcp.org/xml/ns/validation/mapping\n" )
+				.append( "            http://xmlns.jcp.org/xml/ns/validation/mapping/validation-mapping-2.0.xsd\"\n" )
+				.append( "        version=\"2.0\">\n" )
+				.append( "    <bean class=\"" ).append( TemporalBean.class.getName() ).append( "\" ignore-annotations=\"true\">\n" );
+
+		for ( String type : TYPES ) {
+			appendField( mapping, "past" + type, Past.class, PastOrPresent.class );
+		}
+		for ( String type : TYPES ) {
+			appendField( mapping, "future" + type, Future.class, FutureOrPresent.class );
+		}
+
+		mapping.append( "    </bean>\n" )
+				.append( "</constraint-mappings>\n" );
+
+		return new ByteArrayInputStream( mapping.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static void appendField(StringBuilder mapping, String field, Class<?>... constraints) {
+		mapping.append( "        <field name=\"" ).append( field ).append( "\">\n" );
+		for ( Class<?> constraint : constraints ) {
+			for ( int i = 1; i <= DECLARATIONS_PER_CONSTRAINT; i++ ) {
+				mapping.append( "            <constraint annotation=\"" ).append( constraint.getName() ).append( "\">\n" )
+						.append( "                <message>" ).append( constraint.getSimpleName() ).append( ' ' ).append( i ).append( "</message>\n" )
+						.append( "            </constraint>\n" );
+			}
+		}
+		mapping.append( "        </field>\n" );
+	}
+}
@@ -0,0 +1,348 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.traversableresolver;
+
+import java.lang.annotation.ElementType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Jacket;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Suit;
+import org.hibernate.beanvalidation.tck.tests.traversableresolver.Trousers;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of graphs of the {@link Suit} / {@link Jacket} / {@link Trousers} model of
+ * {@code TraversableResolverTest} with a traversable resolver which spends {@link #resolverLatency} nanoseconds in each
+ * call, the way a resolver checking whether a JPA association is loaded would.
+ * <p>
+ * The graphs are either wide (a wardrobe holding {@link #size} suits) or deep (a chain of {@link #size} layers, each
+ * holding a suit and the next layer). The {@link ResolverCalls} counters report the {@code isReachable()} and
+ * {@code isCascadable()} calls and the validated beans of an iteration; their ratios give the calls per bean.
+ * <p>
+ * {@link #validateTrackingRedundantCalls(ResolverCalls, RedundantCalls)} additionally reports the calls repeating a
+ * previous call for the same bean, property and path within the same validation; a provider avoiding redundant calls
+ * reports no {@code redundantCalls}. Its score is not comparable to the one of {@link #validate(ResolverCalls)}:
+ * tracking the calls converts each path to a string, at a cost proportional to the depth of the path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class TraversableResolverBenchmark {
+
+	public enum Shape {
+		WIDE {
+			@Override
+			Object createGraph(int size) {
+				Wardrobe wardrobe = new Wardrobe();
+				for ( int i = 0; i < size; i++ ) {
+					wardrobe.suits.add( createSuit() );
+				}
+				return wardrobe;
+			}
+
+			@Override
+			int getNodeCount(int size) {
+				return 1 + size * 3;
+			}
+		},
+		DEEP {
+			@Override
+			Object createGraph(int size) {
+				Layer layer = null;
+				for ( int i = 0; i < size; i++ ) {
+					layer = new Layer( createSuit(), layer );
+				}
+				return layer;
+			}
+
+			@Override
+			int getNodeCount(int size) {
+				return size * 4;
+			}
+		};
+
+		abstract Object createGraph(int size);
+
+		/**
+		 * Returns the number of beans of the graph, i.e. the number of nodes the provider validates.
+		 */
+		abstract int getNodeCount(int size);
+	}
+
+	@Param
+	public Shape shape;
+
+	@Param({ "10", "100" })
+	public int size;
+
+	/**
+	 * The time spent in each call of the traversable resolver, in nanoseconds.
+	 */
+	@Param({ "0", "1000" })
+	public long resolverLatency;
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private SlowTraversableResolver traversableResolver;
+
+	private ValidatorFactory trackingValidatorFactory;
+
+	private Validator trackingValidator;
+
+	private SlowTraversableResolver trackingTraversableResolver;
+
+	private Object graph;
+
+	private int nodeCount;
+
+	@Setup
+	public void setUp() {
+		traversableResolver = new SlowTraversableResolver( resolverLatency, false );
+		validatorFactory = TestUtil.getConfigurationUnderTest()
+				.traversableResolver( traversableResolver )
+				.buildValidatorFactory();
+		validator = validatorFactory.getValidator();
+
+		trackingTraversableResolver = new SlowTraversableResolver( resolverLatency, true );
+		trackingValidatorFactory = TestUtil.getConfigurationUnderTest()
+				.traversableResolver( trackingTraversableResolver )
+				.buildValidatorFactory();
+		trackingValidator = trackingValidatorFactory.getValidator();
+
+		graph = shape.createGraph( size );
+		nodeCount = shape.getNodeCount( size );
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+		trackingValidatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validate(ResolverCalls calls) {
+		traversableResolver.reset();
+		Set<ConstraintViolation<Object>> violations = validator.validate( graph );
+		calls.record( traversableResolver, nodeCount );
+		return violations;
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> validateTrackingRedundantCalls(ResolverCalls calls, RedundantCalls redundantCalls) {
+		trackingTraversableResolver.reset();
+		Set<ConstraintViolation<Object>> violations = trackingValidator.validate( graph );
+		calls.record( trackingTraversableResolver, nodeCount );
+		redundantCalls.record( trackingTraversableResolver );
+		return violations;
+	}
+
+	private static Suit createSuit() {
+		Jacket jacket = new Jacket();
+		jacket.setWidth( 25 );
+
+		Trousers trousers = new Trousers();
+		trousers.setLength( 90 );
+
+		Suit suit = new Suit();
+		suit.setSize( 40 );
+		suit.setJacket( jacket );
+		suit.setTrousers( trousers );
+		return suit;
+	}
+
+	/**
+	 * Counts the traversable resolver calls and the validated beans of an iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class ResolverCalls {
+
+		public long reachableCalls;
+
+		public long cascadableCalls;
+
+		public long validatedNodes;
+
+		private void record(SlowTraversableResolver traversableResolver, int nodeCount) {
+			reachableCalls += traversableResolver.reachableCalls;
+			cascadableCalls += traversableResolver.cascadableCalls;
+			validatedNodes += nodeCount;
+		}
+	}
+
+	/**
+	 * Counts the traversable resolver calls of an iteration repeating a previous call of the same validation.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RedundantCalls {
+
+		public long redundantCalls;
+
+		private void record(SlowTraversableResolver traversableResolver) {
+			redundantCalls += traversableResolver.redundantCalls;
+		}
+	}
+
+	/**
+	 * Traverses everything, after spending the given time in each call, and counts its calls since the last
+	 * {@link #reset()}. If tracking the calls, it also counts the calls repeating a previous call.
+	 */
+	private static class SlowTraversableResolver implements TraversableResolver {
+
+		private final long latency;
+
+		private final Set<Call> calls;
+
+		private int reachableCalls;
+
+		private int cascadableCalls;
+
+		private int redundantCalls;
+
+		private SlowTraversableResolver(long latency, boolean trackCalls) {
+			this.latency = latency;
+			this.calls = trackCalls ? new HashSet<>() : null;
+		}
+
+		@Override
+		public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+				Path pathToTraversableObject, ElementType elementType) {
+			reachableCalls++;
+			record( true, traversableObject, traversableProperty, pathToTraversableObject );
+			return true;
+		}
+
+		@Override
+		public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+				Path pathToTraversableObject, ElementType elementType) {
+			cascadableCalls++;
+			record( false, traversableObject, traversableProperty, pathToTraversableObject );
+			return true;
+		}
+
+		private void reset() {
+			if ( calls != null ) {
+				calls.clear();
+			}
+			reachableCalls = 0;
+			cascadableCalls = 0;
+			redundantCalls = 0;
+		}
+
+		private void record(boolean reachable, Object traversableObject, Path.Node traversableProperty, Path pathToTraversableObject) {
+			if ( calls != null && !calls.add( new Call( reachable, traversableObject, traversableProperty.getName(), pathToTraversableObject.toString() ) ) ) {
+				redundantCalls++;
+			}
+
+			long start = System.nanoTime();
+			while ( System.nanoTime() - start < latency ) {
+				// simulates the check of the state of a lazy association
+			}
+		}
+	}
+
+	/**
+	 * A call of the traversable resolver; the traversable objects are compared by identity.
+	 */
+	private static class Call {
+
+		private final boolean reachable;
+
+		private final Object traversableObject;
+
+		private final String propertyName;
+
+		private final String path;
+
+		private Call(boolean reachable, Object traversableObject, String propertyName, String path) {
+			this.reachable = reachable;
+			this.traversableObject = traversableObject;
+			this.propertyName = propertyName;
+			this.path = path;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			Call call = (Call) o;
+			return reachable == call.reachable
+					&& traversableObject == call.traversableObject
+					&& propertyName.equals( call.propertyName )
+					&& path.equals( call.path );
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Boolean.hashCode( reachable );
+			result = 31 * result + System.identityHashCode( traversableObject );
+			result = 31 * result + propertyName.hashCode();
+			result = 31 * result + path.hashCode();
+			return result;
+		}
+	}
+
+	private static class Wardrobe {
+
+		@Valid
+		private final List<Suit> suits = new ArrayList<>();
+	}
+
+	private static class Layer {
+
+		@Min(0)
+		private final int depth;
+
+		@Valid
+		private final Suit suit;
+
+		@Valid
+		private final Layer next;
+
+		private Layer(Suit suit, Layer next) {
+			this.depth = next == null ? 0 : next.depth + 1;
+			this.suit = suit;
+			this.next = next;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.validation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.validation.Actor;
+import org.hibernate.beanvalidation.tck.tests.validation.ActorArrayBased;
+import org.hibernate.beanvalidation.tck.tests.validation.ActorListBased;
+import org.hibernate.beanvalidation.tck.tests.validation.Customer;
+import org.hibernate.beanvalidation.tck.tests.validation.Movie;
+import org.hibernate.beanvalidation.tck.tests.validation.MovieStudio;
+import org.hibernate.beanvalidation.tck.tests.validation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.Person;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of the models of {@code PropertyPathTest} (lists, arrays and sets of beans, method parameters
+ * and return values) when they are valid and when they have a single violation at the end of the graph, to show the
+ * cost of the property paths.
+ * <p>
+ * {@link #validate()} only validates. Its {@code gc.alloc.rate.norm} gives the bytes allocated per validation, which
+ * grow with the depth of the graph ({@link #depth}) for any provider: they include all the work done per traversed
+ * node, whether the provider builds property paths or not. {@link #validateAndIteratePropertyPaths(Blackhole, PathNodes)}
+ * additionally iterates the nodes of the property paths of the violations, counted by {@code pathNodes} next to the
+ * {@code calls}, and {@link #validateAndPrintPropertyPaths()} calls their {@code toString()}; the differences with
+ * {@link #validate()} give the cost of consuming the paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class PropertyPathBenchmark {
+
+	public enum Model {
+		/**
+		 * A chain of {@link ActorListBased}, each actor having played with the next one.
+		 */
+		LIST {
+			@Override
+			Supplier<Set<? extends ConstraintViolation<?>>> createCall(Validator validator, int depth, boolean invalid) {
+				Actor actor = createActors( ActorListBased::new, depth, invalid );
+				return () -> validator.validate( actor );
+			}
+		},
+		/**
+		 * A chain of {@link ActorArrayBased}, each actor having played with the next one.
+		 */
+		ARRAY {
+			@Override
+			Supplier<Set<? extends ConstraintViolation<?>>> createCall(Validator validator, int depth, boolean invalid) {
+				Actor actor = createActors( ActorArrayBased::new, depth, invalid );
+				return () -> validator.validate( actor );
+			}
+		},
+		/**
+		 * A {@link Customer} with a set of orders.
+		 */
+		SET {
+			@Override
+			Supplier<Set<? extends ConstraintViolation<?>>> createCall(Validator validator, int depth, boolean invalid) {
+				Customer customer = new Customer();
+				customer.setFirstName( "John" );
+				customer.setLastName( "Doe" );
+				for ( int i = 0; i < depth; i++ ) {
+					Order order = new Order();
+					order.setOrderNumber( invalid && i == depth - 1 ? null : i );
+					customer.addOrder( order );
+				}
+				return () -> validator.validate( customer );
+			}
+		},
+		/**
+		 * The parameters of {@link MovieStudio#makeMovieMapBased(String, Person, Map)}, the map holding a chain of
+		 * {@link ActorListBased}.
+		 */
+		PARAMETERS {
+			@Override
+			Supplier<Set<? extends ConstraintViolation<?>>> createCall(Validator validator, int depth, boolean invalid) throws Exception {
+				MovieStudio studio = new MovieStudio();
+				Method method = MovieStudio.class.getMethod( "makeMovieMapBased", String.class, Person.class, Map.class );
+				Object[] parameterValues = new Object[] {
+						"The Good, the Bad and the Ugly",
+						new ActorListBased( "Sergio", "Leone" ),
+						Collections.singletonMap( "lead", createActors( ActorListBased::new, depth, invalid ) )
+				};
+				return () -> validator.forExecutables().validateParameters( studio, method, parameterValues );
+			}
+		},
+		/**
+		 * The return value of {@link MovieStudio#getBestSellingMoviesListBased()}, a list of movies.
+		 */
+		RETURN_VALUE {
+			@Override
+			Supplier<Set<? extends ConstraintViolation<?>>> createCall(Validator validator, int depth, boolean invalid) throws Exception {
+				MovieStudio studio = new MovieStudio();
+				Method method = MovieStudio.class.getMethod( "getBestSellingMoviesListBased" );
+				List<Movie> movies = new ArrayList<>();
+				for ( int i = 0; i < depth; i++ ) {
+					movies.add( new Movie( invalid && i == depth - 1 ? null : "Movie " + i ) );
+				}
+				return () -> validator.forExecutables().validateReturnValue( studio, method, movies );
+			}
+		};
+
+		abstract Supplier<Set<? extends ConstraintViolation<?>>> createCall(Validator validator, int depth, boolean invalid) throws Exception;
+	}
+
+	public enum Violation {
+		NONE,
+		/**
+		 * A single violation on the last element of the graph.
+		 */
+		DEEP
+	}
+
+	@Param
+	public Model model;
+
+	@Param
+	public Violation violation;
+
+	/**
+	 * The number of actors of the chains of actors and the number of elements of the collections.
+	 */
+	@Param({ "1", "10", "100" })
+	public int depth;
+
+	private ValidatorFactory validatorFactory;
+
+	private Supplier<Set<? extends ConstraintViolation<?>>> call;
+
+	@Setup
+	public void setUp() throws Exception {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		call = model.createCall( validatorFactory.getValidator(), depth, violation == Violation.DEEP );
+
+		int violationCount = call.get().size();
+		if ( violationCount != ( violation == Violation.DEEP ? 1 : 0 ) ) {
+			throw new IllegalStateException( "Unexpected number of violations for " + model + ", " + violation + " and a depth of " + depth + ": " + violationCount );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<? extends ConstraintViolation<?>> validate() {
+		return call.get();
+	}
+
+	@Benchmark
+	public void validateAndIteratePropertyPaths(Blackhole blackhole, PathNodes pathNodes) {
+		int nodes = 0;
+		for ( ConstraintViolation<?> constraintViolation : call.get() ) {
+			for ( Path.Node node : constraintViolation.getPropertyPath() ) {
+				blackhole.consume( node.getName() );
+				blackhole.consume( node.getKind() );
+				blackhole.consume( node.getIndex() );
+				blackhole.consume( node.getKey() );
+				nodes++;
+			}
+		}
+		pathNodes.record( nodes );
+	}
+
+	@Benchmark
+	public int validateAndPrintPropertyPaths() {
+		int length = 0;
+		for ( ConstraintViolation<?> constraintViolation : call.get() ) {
+			length += constraintViolation.getPropertyPath().toString().length();
+		}
+		return length;
+	}
+
+	private static Actor createActors(BiFunction<String, String, Actor> actorFactory, int depth, boolean invalid) {
+		Actor first = null;
+		Actor previous = null;
+		for ( int i = 0; i < depth; i++ ) {
+			Actor actor = actorFactory.apply( "Actor", invalid && i == depth - 1 ? null : String.valueOf( i ) );
+			if ( previous == null ) {
+				first = actor;
+			}
+			else {
+				previous.addPlayedWith( actor );
+			}
+			previous = actor;
+		}
+		return first;
+	}
+
+	/**
+	 * Counts the nodes of the property paths of the violations and the calls of an iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PathNodes {
+
+		public long pathNodes;
+
+		public long calls;
+
+		private void record(int nodeCount) {
+			pathNodes += nodeCount;
+			calls++;
+		}
+	}
+}
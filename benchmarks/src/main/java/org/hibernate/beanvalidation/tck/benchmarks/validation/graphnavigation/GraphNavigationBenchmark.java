@@ -0,0 +1,117 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.validation.graphnavigation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Validator#validate(Object, Class[])} on the graph navigation model of the TCK, i.e. the
+ * {@link Order} / {@link OrderLine} / {@link User} / {@link Address} object graph used by
+ * {@code GraphNavigationTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class GraphNavigationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private Order validOrder;
+
+	private Order invalidOrder;
+
+	private User cyclicUser;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = TestUtil.getValidatorFactoryUnderTest();
+		validator = validatorFactory.getValidator();
+
+		validOrder = createOrder( "Kungsgatan 5" );
+		invalidOrder = createOrder( null );
+
+		User john = new User( "John", "Doe" );
+		User jane = new User( "Jane", "Doe" );
+		john.knows( jane );
+		jane.knows( john );
+		cyclicUser = john;
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Order>> validateValidOrder() {
+		return validator.validate( validOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Order>> validateInvalidOrder() {
+		return validator.validate( invalidOrder );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<User>> validateCyclicUsers() {
+		return validator.validate( cyclicUser );
+	}
+
+	/**
+	 * Builds the same graph as {@code GraphNavigationTest#testGraphNavigationDeterminism()}; passing {@code null}
+	 * as shipping address line leads to three violations, reached through different paths.
+	 */
+	private static Order createOrder(String shippingAddressLine) {
+		User user = new User( "John", "Doe" );
+
+		Address shippingAddress = new Address( shippingAddressLine, "11122", "Stockholm" );
+		shippingAddress.setInhabitant( user );
+
+		Address billingAddress = new Address( "Kungsgatan 5", "11122", "Stockholm" );
+		billingAddress.setInhabitant( user );
+
+		user.addAddress( shippingAddress );
+		user.addAddress( billingAddress );
+
+		Order order = new Order( 1 );
+		order.setShippingAddress( shippingAddress );
+		order.setBillingAddress( billingAddress );
+		order.setCustomer( user );
+
+		order.addOrderLine( new OrderLine( order, 42 ) );
+		order.addOrderLine( new OrderLine( order, 101 ) );
+
+		return order;
+	}
+}
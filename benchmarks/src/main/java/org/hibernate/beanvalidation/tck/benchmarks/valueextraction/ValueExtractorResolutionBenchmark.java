@@ -0,0 +1,280 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.benchmarks.valueextraction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import javax.validation.valueextraction.ExtractedValue;
+import javax.validation.valueextraction.ValueExtractor;
+
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.CascadingEntity1;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.CascadingEntity2;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.ContainerElementEntity1;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.ContainerElementEntity2;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.ContainerElementEntity3;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.IWrapper11;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.IWrapper111;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.IWrapper21;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.IWrapper211;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.IWrapper212;
+import org.hibernate.beanvalidation.tck.tests.valueextraction.resolution.model.Wrapper2;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of values requiring the resolution of a value extractor: the type hierarchies of the
+ * {@code valueextraction.resolution.model} used by {@code CascadingValueExtractorResolutionAlgorithmTest} and
+ * {@code ContainerElementValueExtractorResolutionAlgorithmTest}, and the built-in {@code List}, {@code Map},
+ * {@code Optional} and {@code Iterable} value extractors.
+ * <p>
+ * {@link #firstValidation(FirstValidation)} runs once per iteration against a validator factory which has not been
+ * used yet, {@link #steadyStateValidation()} repeats the validation against the same factory. A steady state cost
+ * growing with the depth of the type hierarchy means that the provider resolves the value extractors on every call
+ * instead of caching the resolution per declared and runtime type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ValueExtractorResolutionBenchmark {
+
+	public enum Model {
+		/**
+		 * Cascading through {@code IWrapper111}, the runtime type implementing the more specific {@code IWrapper11}.
+		 */
+		CASCADING_INTERFACE_HIERARCHY( () -> new CascadingEntity1( "value" ) ),
+		/**
+		 * Cascading through {@code IWrapper21}, whose parallel super interfaces are disambiguated by the runtime type.
+		 */
+		CASCADING_PARALLEL_HIERARCHIES( () -> new CascadingEntity2( "value" ) ),
+		/**
+		 * Container elements of {@code Wrapper1}, extracted by the extractors of its super interfaces.
+		 */
+		CONTAINER_ELEMENT_CLASS( () -> new ContainerElementEntity1( "value", 4L ) ),
+		/**
+		 * Container elements of {@code Wrapper2}, which has an extractor of its own.
+		 */
+		CONTAINER_ELEMENT_MOST_SPECIFIC( () -> new ContainerElementEntity2( "value", 4L ) ),
+		/**
+		 * Container elements of {@code IWrapper21}, whose parallel super interfaces also have extractors.
+		 */
+		CONTAINER_ELEMENT_PARALLEL_HIERARCHIES( () -> new ContainerElementEntity3( "value", 4L ) ),
+		LIST( () -> new BuiltInContainers( "value" ).withList() ),
+		MAP( () -> new BuiltInContainers( "value" ).withMap() ),
+		OPTIONAL( () -> new BuiltInContainers( "value" ).withOptional() ),
+		ITERABLE( () -> new BuiltInContainers( "value" ).withIterable() );
+
+		private final Supplier<Object> beanFactory;
+
+		Model(Supplier<Object> beanFactory) {
+			this.beanFactory = beanFactory;
+		}
+	}
+
+	@Param
+	public Model model;
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private Object bean;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = buildValidatorFactory();
+		validator = validatorFactory.getValidator();
+		bean = model.beanFactory.get();
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 200)
+	public Set<ConstraintViolation<Object>> firstValidation(FirstValidation firstValidation) {
+		return firstValidation.validator.validate( bean );
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Object>> steadyStateValidation() {
+		return validator.validate( bean );
+	}
+
+	/**
+	 * Builds a validator factory registering the value extractors of the resolution tests which lead to a non
+	 * ambiguous resolution for all the {@link Model}s.
+	 */
+	private static ValidatorFactory buildValidatorFactory() {
+		return TestUtil.getConfigurationUnderTest()
+				.addValueExtractor( new IWrapper11ValueExtractor0() )
+				.addValueExtractor( new IWrapper111ValueExtractor0() )
+				.addValueExtractor( new IWrapper111ValueExtractor1() )
+				.addValueExtractor( new IWrapper21ValueExtractor0() )
+				.addValueExtractor( new IWrapper211ValueExtractor0() )
+				.addValueExtractor( new IWrapper212ValueExtractor0() )
+				.addValueExtractor( new Wrapper2ValueExtractor0() )
+				.addValueExtractor( new Wrapper2ValueExtractor1() )
+				.buildValidatorFactory();
+	}
+
+	/**
+	 * Provides a validator from a new validator factory for each iteration of {@link #firstValidation(FirstValidation)}.
+	 */
+	@State(Scope.Thread)
+	public static class FirstValidation {
+
+		private ValidatorFactory validatorFactory;
+
+		private Validator validator;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			validatorFactory = buildValidatorFactory();
+			validator = validatorFactory.getValidator();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			validatorFactory.close();
+		}
+	}
+
+	private static class BuiltInContainers {
+
+		private final String value;
+
+		private List<@NotNull String> list;
+
+		private Map<@NotNull String, @NotNull String> map;
+
+		private Optional<@NotNull String> optional;
+
+		private Iterable<@NotNull String> iterable;
+
+		private BuiltInContainers(String value) {
+			this.value = value;
+		}
+
+		private BuiltInContainers withList() {
+			list = Arrays.asList( value, value, value );
+			return this;
+		}
+
+		private BuiltInContainers withMap() {
+			map = new HashMap<>();
+			map.put( "key1", value );
+			map.put( "key2", value );
+			map.put( "key3", value );
+			return this;
+		}
+
+		private BuiltInContainers withOptional() {
+			optional = Optional.of( value );
+			return this;
+		}
+
+		private BuiltInContainers withIterable() {
+			iterable = Arrays.asList( value, value, value );
+			return this;
+		}
+	}
+
+	private static class IWrapper11ValueExtractor0 implements ValueExtractor<IWrapper11<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(IWrapper11<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "IWrapper11-0", originalValue.getProperty1() );
+		}
+	}
+
+	private static class IWrapper111ValueExtractor0 implements ValueExtractor<IWrapper111<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(IWrapper111<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "IWrapper111-0", originalValue.getProperty1() );
+		}
+	}
+
+	private static class IWrapper111ValueExtractor1 implements ValueExtractor<IWrapper111<?, @ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(IWrapper111<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "IWrapper111-1", originalValue.getProperty2() );
+		}
+	}
+
+	private static class IWrapper21ValueExtractor0 implements ValueExtractor<IWrapper21<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(IWrapper21<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "IWrapper21-0", originalValue.getProperty1() );
+		}
+	}
+
+	private static class IWrapper211ValueExtractor0 implements ValueExtractor<IWrapper211<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(IWrapper211<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "IWrapper211-0", originalValue.getProperty1() );
+		}
+	}
+
+	private static class IWrapper212ValueExtractor0 implements ValueExtractor<IWrapper212<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(IWrapper212<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "IWrapper212-0", originalValue.getProperty1() );
+		}
+	}
+
+	private static class Wrapper2ValueExtractor0 implements ValueExtractor<Wrapper2<@ExtractedValue ?, ?>> {
+
+		@Override
+		public void extractValues(Wrapper2<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "Wrapper2-0", originalValue.getProperty1() );
+		}
+	}
+
+	private static class Wrapper2ValueExtractor1 implements ValueExtractor<Wrapper2<?, @ExtractedValue ?>> {
+
+		@Override
+		public void extractValues(Wrapper2<?, ?> originalValue, ValueReceiver receiver) {
+			receiver.value( "Wrapper2-1", originalValue.getProperty2() );
+		}
+	}
+}
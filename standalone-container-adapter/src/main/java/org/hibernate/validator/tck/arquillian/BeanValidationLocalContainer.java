@@ -18,11 +18,15 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
 /**
  * A dummy Arquillian container in order to run test locally
+ * <p>
+ * A deployment only replaces the context class loader of the thread deploying the archive, which is also the thread
+ * executing the tests of the deployed class. Thus, several test classes may be deployed concurrently by different
+ * threads.
  *
  * @author Hardy Ferentschik
  */
 public class BeanValidationLocalContainer implements ContainerConfiguration, DeployableContainer {
-	private ClassLoader originalContextClassLoader;
+	private final ThreadLocal<ClassLoader> originalContextClassLoader = new ThreadLocal<>();
 
 	@Override
 	public Class getConfigurationClass() {
@@ -48,9 +52,10 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public ProtocolMetaData deploy(Archive archive) throws DeploymentException {
-		originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		originalContextClassLoader.set( contextClassLoader );
 		ArchiveClassLoader archiveClassLoader = new ArchiveClassLoader(
-				originalContextClassLoader,
+				contextClassLoader,
 				archive
 		);
 		Thread.currentThread().setContextClassLoader( archiveClassLoader );
@@ -59,8 +64,10 @@ public class BeanValidationLocalContainer implements ContainerConfiguration, Dep
 
 	@Override
 	public void undeploy(Archive archive) throws DeploymentException {
-		if ( originalContextClassLoader != null ) {
-			Thread.currentThread().setContextClassLoader( originalContextClassLoader );
+		ClassLoader contextClassLoader = originalContextClassLoader.get();
+		if ( contextClassLoader != null ) {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+			originalContextClassLoader.remove();
 		}
 	}
 
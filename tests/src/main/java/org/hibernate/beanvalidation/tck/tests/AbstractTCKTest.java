@@ -12,11 +12,18 @@ import javax.validation.executable.ExecutableValidator;
 import org.assertj.core.api.Assert;
 import org.hibernate.beanvalidation.tck.util.CollectionHelper;
 import org.hibernate.beanvalidation.tck.util.ConstraintViolationAssert;
+import org.hibernate.beanvalidation.tck.util.ExclusiveTest;
+import org.hibernate.beanvalidation.tck.util.ParallelExecutionHelper;
 import org.hibernate.beanvalidation.tck.util.TestUtil;
 import org.hibernate.beanvalidation.tck.util.ValidationInvocationHandler;
+import org.hibernate.beanvalidation.tck.util.ValidatorFactoryPool;
 import org.hibernate.beanvalidation.tck.util.shrinkwrap.ArchiveBuilder;
 import org.hibernate.beanvalidation.tck.util.shrinkwrap.WebArchiveBuilder;
 import org.jboss.arquillian.testng.Arquillian;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeSuite;
 
 /**
  * @author Marko Bekhta
@@ -39,7 +46,10 @@ public abstract class AbstractTCKTest extends Arquillian {
 				TestUtil.class,
 				ConstraintViolationAssert.class,
 				CollectionHelper.class,
-				ValidationInvocationHandler.class
+				ValidationInvocationHandler.class,
+				ExclusiveTest.class,
+				ParallelExecutionHelper.class,
+				ValidatorFactoryPool.class
 		);
 
 		// We don't use the Maven features of Shrinkwrap as the TCK might not be run with Maven
@@ -56,6 +66,54 @@ public abstract class AbstractTCKTest extends Arquillian {
 		return webArchiveBuilder;
 	}
 
+	@Override
+	@BeforeSuite(groups = "arquillian", inheritGroups = true)
+	public void arquillianBeforeSuite() throws Exception {
+		ParallelExecutionHelper.suiteStarting();
+		super.arquillianBeforeSuite();
+	}
+
+	@Override
+	@AfterSuite(groups = "arquillian", inheritGroups = true, alwaysRun = true)
+	public void arquillianAfterSuite() throws Exception {
+		try {
+			super.arquillianAfterSuite();
+		}
+		finally {
+			ParallelExecutionHelper.suiteFinished();
+			if ( ValidatorFactoryPool.isEnabled() ) {
+				ValidatorFactoryPool.releaseAll();
+			}
+		}
+	}
+
+	@Override
+	@BeforeClass(groups = "arquillian", inheritGroups = true)
+	public void arquillianBeforeClass() throws Exception {
+		ParallelExecutionHelper.beforeClass( getClass() );
+		if ( ParallelExecutionHelper.isEnabled() ) {
+			// the threads executing the test classes join the suite started by the main thread
+			super.arquillianBeforeSuite();
+		}
+		super.arquillianBeforeClass();
+	}
+
+	@Override
+	@AfterClass(groups = "arquillian", inheritGroups = true, alwaysRun = true)
+	public void arquillianAfterClass() throws Exception {
+		// the context class loader of the deployment is restored when undeploying the archive
+		ClassLoader deploymentClassLoader = Thread.currentThread().getContextClassLoader();
+		try {
+			super.arquillianAfterClass();
+		}
+		finally {
+			if ( ValidatorFactoryPool.isEnabled() ) {
+				ValidatorFactoryPool.release( deploymentClassLoader );
+			}
+			ParallelExecutionHelper.afterClass( getClass() );
+		}
+	}
+
 	protected Validator getValidator() {
 		if ( validator == null ) {
 			validator = TestUtil.getValidatorUnderTest();
@@ -0,0 +1,269 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.builtinconstraints;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+
+import javax.validation.Validator;
+import javax.validation.constraints.AssertFalse;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Negative;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.util.AllocationBudget;
+import org.hibernate.beanvalidation.tck.util.AllocationBudgetTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the bytes allocated by {@code validate()} for beans hosting the built-in constraints, once warmed up, against
+ * the baseline {@code allocation-budget.properties}. Each built-in constraint is measured for a valid and for an
+ * invalid bean.
+ * <p>
+ * Besides, validating a valid bean creates neither violations nor messages: it must not allocate more than the fixed
+ * cost of a validation, given by the system property <i>allocationBudgetValidMaximum</i> (4096 bytes by default),
+ * whatever the baseline.
+ */
+@AllocationBudgetTest
+public class BuiltinConstraintsAllocationTest extends AbstractTCKTest {
+
+	private static final String BASELINE = "allocation-budget.properties";
+
+	/**
+	 * Name of the system property for configuring the maximum number of bytes allocated when validating a valid bean.
+	 */
+	private static final String VALID_MAXIMUM = "allocationBudgetValidMaximum";
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( BuiltinConstraintsAllocationTest.class )
+				.withResource( BASELINE )
+				.build();
+	}
+
+	@Test
+	public void testAssertConstraintsAllocations() {
+		AssertDummyEntity invalid = new AssertDummyEntity();
+		invalid.trueValue = false;
+		invalid.falseValue = true;
+
+		assertWithinBudget( "AssertTrue-AssertFalse", new AssertDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testDecimalMinDecimalMaxConstraintsAllocations() {
+		DecimalMinMaxDummyEntity invalid = new DecimalMinMaxDummyEntity();
+		invalid.minValue = new BigDecimal( "10.0" );
+		invalid.maxValue = new BigDecimal( "100.5" );
+
+		assertWithinBudget( "DecimalMin-DecimalMax", new DecimalMinMaxDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testDigitsConstraintAllocations() {
+		DigitsDummyEntity invalid = new DigitsDummyEntity();
+		invalid.bigDecimal = new BigDecimal( "100.123" );
+
+		assertWithinBudget( "Digits", new DigitsDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testEmailConstraintAllocations() {
+		EmailDummyEntity invalid = new EmailDummyEntity();
+		invalid.email = "john.doe";
+
+		assertWithinBudget( "Email", new EmailDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testFuturePastConstraintsAllocations() {
+		FuturePastDummyEntity invalid = new FuturePastDummyEntity();
+		invalid.future = invalid.past;
+		invalid.past = Instant.now().plus( 365, ChronoUnit.DAYS );
+
+		assertWithinBudget( "Future-Past", new FuturePastDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testMinMaxConstraintsAllocations() {
+		MinMaxDummyEntity invalid = new MinMaxDummyEntity();
+		invalid.minValue = 100L;
+		invalid.maxValue = 10;
+
+		assertWithinBudget( "Min-Max", new MinMaxDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testNegativePositiveConstraintsAllocations() {
+		NegativePositiveDummyEntity invalid = new NegativePositiveDummyEntity();
+		invalid.negative = 1;
+		invalid.positive = -1;
+
+		assertWithinBudget( "Negative-Positive", new NegativePositiveDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testNotBlankConstraintAllocations() {
+		NotBlankDummyEntity invalid = new NotBlankDummyEntity();
+		invalid.string = "  ";
+
+		assertWithinBudget( "NotBlank", new NotBlankDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testNotEmptyConstraintAllocations() {
+		NotEmptyDummyEntity invalid = new NotEmptyDummyEntity();
+		invalid.string = "";
+		invalid.list = Collections.emptyList();
+
+		assertWithinBudget( "NotEmpty", new NotEmptyDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testNullNotNullConstraintsAllocations() {
+		NullNotNullDummyEntity invalid = new NullNotNullDummyEntity();
+		invalid.nullProperty = "foo";
+		invalid.notNullProperty = null;
+
+		assertWithinBudget( "Null-NotNull", new NullNotNullDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testPatternConstraintAllocations() {
+		PatternDummyEntity invalid = new PatternDummyEntity();
+		invalid.pattern = "ab";
+
+		assertWithinBudget( "Pattern", new PatternDummyEntity(), invalid );
+	}
+
+	@Test
+	public void testSizeConstraintAllocations() {
+		SizeDummyEntity invalid = new SizeDummyEntity();
+		invalid.string = "";
+		invalid.list = Collections.emptyList();
+		invalid.intArray = new int[0];
+
+		assertWithinBudget( "Size", new SizeDummyEntity(), invalid );
+	}
+
+	private void assertWithinBudget(String constraints, Object valid, Object invalid) {
+		Validator validator = TestUtil.getValidatorUnderTest();
+		AllocationBudget budget = AllocationBudget.load( BuiltinConstraintsAllocationTest.class, BASELINE );
+
+		budget.assertWithinBudget( constraints + ".valid", Long.getLong( VALID_MAXIMUM, 4096 ), () -> validator.validate( valid ) );
+		budget.assertWithinBudget( constraints + ".invalid", () -> validator.validate( invalid ) );
+	}
+
+	private static class AssertDummyEntity {
+		@AssertTrue
+		private boolean trueValue = true;
+
+		@AssertFalse
+		private boolean falseValue = false;
+	}
+
+	private static class DecimalMinMaxDummyEntity {
+		@DecimalMin("10.1")
+		private BigDecimal minValue = new BigDecimal( "100.4" );
+
+		@DecimalMax("100.4")
+		private BigDecimal maxValue = new BigDecimal( "10.1" );
+	}
+
+	private static class DigitsDummyEntity {
+		@Digits(integer = 1, fraction = 2)
+		private BigDecimal bigDecimal = new BigDecimal( "1.12" );
+	}
+
+	private static class EmailDummyEntity {
+		@Email
+		private String email = "john.doe@example.com";
+	}
+
+	private static class FuturePastDummyEntity {
+		@Future
+		private Instant future = Instant.now().plus( 365, ChronoUnit.DAYS );
+
+		@Past
+		private Instant past = Instant.now().minus( 365, ChronoUnit.DAYS );
+	}
+
+	private static class MinMaxDummyEntity {
+		@Min(101)
+		private long minValue = 101L;
+
+		@Max(9)
+		private int maxValue = 9;
+	}
+
+	private static class NegativePositiveDummyEntity {
+		@Negative
+		private int negative = -1;
+
+		@Positive
+		private int positive = 1;
+	}
+
+	private static class NotBlankDummyEntity {
+		@NotBlank
+		private String string = "foo";
+	}
+
+	private static class NotEmptyDummyEntity {
+		@NotEmpty
+		private String string = "foo";
+
+		@NotEmpty
+		private List<String> list = Collections.singletonList( "foo" );
+	}
+
+	private static class NullNotNullDummyEntity {
+		@Null
+		private String nullProperty;
+
+		@NotNull
+		private String notNullProperty = "foo";
+	}
+
+	private static class PatternDummyEntity {
+		@Pattern(regexp = "[a-z][a-z][a-z]")
+		private String pattern = "abc";
+	}
+
+	private static class SizeDummyEntity {
+		@Size(min = 1, max = 3)
+		private String string = "foo";
+
+		@Size(min = 1, max = 3)
+		private List<String> list = Collections.singletonList( "foo" );
+
+		@Size(min = 1, max = 3)
+		private int[] intArray = new int[] { 1 };
+	}
+}
@@ -0,0 +1,267 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.builtinconstraints;
+
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+
+import javax.validation.Validator;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.util.StressTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Validates millions of values against {@link Pattern} and {@link Email} and checks that the regular expressions are
+ * compiled once, and that the built-in {@code Email} validation of pathological inputs is time bounded.
+ * <p>
+ * The regular expression {@link #REGEXP} is expensive to compile but cheap to match. The time a constraint using it adds
+ * to the validation of a value is compared to the time of matching the value against a precompiled
+ * {@link java.util.regex.Pattern}: it must be closer to this time than to the time of compiling the expression again.
+ * <p>
+ * Each pathological input must be validated against {@code @Email} within <i>emailValidationTimeBound</i> milliseconds
+ * (500 by default). All the inputs are validated and the failures are reported together.
+ */
+@StressTest
+public class RegexpConstraintsStressTest extends AbstractTCKTest {
+
+	private static final Logger log = Logger.getLogger( RegexpConstraintsStressTest.class.getName() );
+
+	/**
+	 * Name of the system property for configuring the maximum time of the validation of a pathological input, in ms.
+	 */
+	private static final String EMAIL_VALIDATION_TIME_BOUND = "emailValidationTimeBound";
+
+	private static final String ALTERNATIVE = "|alternative[a-z]{2,8}\\d+(-[a-z]+)*";
+
+	private static final String ALTERNATIVES_10 = ALTERNATIVE + ALTERNATIVE + ALTERNATIVE + ALTERNATIVE + ALTERNATIVE
+			+ ALTERNATIVE + ALTERNATIVE + ALTERNATIVE + ALTERNATIVE + ALTERNATIVE;
+
+	private static final String ALTERNATIVES_100 = ALTERNATIVES_10 + ALTERNATIVES_10 + ALTERNATIVES_10 + ALTERNATIVES_10
+			+ ALTERNATIVES_10 + ALTERNATIVES_10 + ALTERNATIVES_10 + ALTERNATIVES_10 + ALTERNATIVES_10 + ALTERNATIVES_10;
+
+	/**
+	 * Matches the values of {@link #createValues()} with the first alternative; the 500 other alternatives make it
+	 * expensive to compile.
+	 */
+	private static final String REGEXP = "[a-z]+\\d*(@example\\.com)?"
+			+ ALTERNATIVES_100 + ALTERNATIVES_100 + ALTERNATIVES_100 + ALTERNATIVES_100 + ALTERNATIVES_100;
+
+	private static final int DISTINCT_VALUE_COUNT = 10_000;
+
+	private static final int VALIDATION_COUNT = 1_000_000;
+
+	private static final int COMPILATION_COUNT = 1_000;
+
+	private static final int RUNS = 3;
+
+	private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+	private static final int MAX_DOMAIN_LENGTH = 255;
+
+	private int sink;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( RegexpConstraintsStressTest.class )
+				.build();
+	}
+
+	@Test
+	public void testPatternRegexpIsCompiledOnce() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+
+		assertRegexpCompiledOnce(
+				"@Pattern",
+				value -> validator.validateValue( PatternEntity.class, "pattern", value ).size(),
+				value -> validator.validateValue( PatternEntity.class, "reference", value ).size()
+		);
+	}
+
+	@Test
+	public void testEmailRegexpIsCompiledOnce() {
+		Validator validator = TestUtil.getValidatorUnderTest();
+
+		assertRegexpCompiledOnce(
+				"@Email",
+				value -> validator.validateValue( EmailEntity.class, "emailWithRegexp", value + "@example.com" ).size(),
+				value -> validator.validateValue( EmailEntity.class, "email", value + "@example.com" ).size()
+		);
+	}
+
+	@Test
+	public void testEmailValidationOfPathologicalInputsIsTimeBounded() throws Exception {
+		long timeBound = Long.getLong( EMAIL_VALIDATION_TIME_BOUND, 500 );
+		Validator validator = TestUtil.getValidatorUnderTest();
+
+		// warm up the email validation of the provider
+		for ( int i = 0; i < 10_000; i++ ) {
+			sink += validator.validateValue( EmailEntity.class, "email", "user" + i + "@example.com" ).size();
+		}
+
+		List<String> failures = new ArrayList<>();
+		for ( String input : createPathologicalEmails() ) {
+			String description = input.length() > 40 ? input.substring( 0, 40 ) + "... (" + input.length() + " chars)" : input;
+
+			// a thread per input, so that a validation exceeding the time bound does not delay the following ones
+			ExecutorService executor = Executors.newSingleThreadExecutor( runnable -> {
+				Thread thread = new Thread( runnable, "email-validation-time-bound" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+			try {
+				long start = System.nanoTime();
+				Future<?> validation = executor.submit( () -> validator.validateValue( EmailEntity.class, "email", input ) );
+				validation.get( timeBound, TimeUnit.MILLISECONDS );
+
+				log.info( String.format( "Email %s: validation time %,d µs", description, ( System.nanoTime() - start ) / 1_000 ) );
+			}
+			catch (TimeoutException e) {
+				// the validation thread cannot be interrupted; it is a daemon thread so it won't prevent the JVM from exiting
+				failures.add( "Validating the email " + description + " took more than " + timeBound + " ms" );
+			}
+			catch (ExecutionException e) {
+				failures.add( "Validating the email " + description + " failed with " + e.getCause() );
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+		if ( !failures.isEmpty() ) {
+			fail( "The validation of " + failures.size() + " pathological inputs failed:\n" + String.join( "\n", failures ) );
+		}
+	}
+
+	/**
+	 * Asserts that the time the constraint using {@link #REGEXP} adds to the validation of a value is closer to the
+	 * time of matching the value against a precompiled pattern than to the time of compiling the pattern again.
+	 */
+	private void assertRegexpCompiledOnce(String constraint, ToIntFunction<String> regexpValidation, ToIntFunction<String> referenceValidation) {
+		java.util.regex.Pattern precompiled = java.util.regex.Pattern.compile( REGEXP );
+		String[] values = createValues();
+
+		long matchTime = measure( values, VALIDATION_COUNT, value -> precompiled.matcher( value ).matches() ? 1 : 0 );
+		long compileTime = measure( values, COMPILATION_COUNT, value -> java.util.regex.Pattern.compile( REGEXP ).flags() );
+		long referenceValidationTime = measure( values, VALIDATION_COUNT, referenceValidation );
+
+		// a provider compiling the expression for each validation would need minutes for the full measurement
+		assertRegexpTime( constraint, measure( values, COMPILATION_COUNT, regexpValidation ) - referenceValidationTime, matchTime, compileTime );
+
+		long regexpValidationTime = measure( values, VALIDATION_COUNT, regexpValidation );
+		long regexpTime = regexpValidationTime - referenceValidationTime;
+
+		log.info( String.format( "%s: %,d ns per value for the regular expression (%,d ns validation, %,d ns without the regular expression), "
+				+ "%,d ns for a precompiled pattern, %,d ns for a compilation", constraint, regexpTime, regexpValidationTime,
+				referenceValidationTime, matchTime, compileTime ) );
+
+		assertRegexpTime( constraint, regexpTime, matchTime, compileTime );
+	}
+
+	private static void assertRegexpTime(String constraint, long regexpTime, long matchTime, long compileTime) {
+		assertTrue(
+				regexpTime <= matchTime + compileTime / 2,
+				"The regular expression of " + constraint + " adds " + regexpTime + " ns to the validation of a value, while matching it against "
+						+ "a precompiled pattern takes " + matchTime + " ns and compiling it takes " + compileTime + " ns: it seems to be compiled for "
+						+ "each validation"
+		);
+	}
+
+	/**
+	 * Applies the operation to the given number of values, cycling through the values, several times and returns the
+	 * shortest time per value, in nanoseconds. The first run warms up the operation.
+	 */
+	private long measure(String[] values, int count, ToIntFunction<String> operation) {
+		long minimumTime = Long.MAX_VALUE;
+		for ( int run = 0; run <= RUNS; run++ ) {
+			long start = System.nanoTime();
+			for ( int i = 0; i < count; i++ ) {
+				sink += operation.applyAsInt( values[i % values.length] );
+			}
+			long time = ( System.nanoTime() - start ) / count;
+
+			if ( run > 0 ) {
+				minimumTime = Math.min( minimumTime, time );
+			}
+		}
+		return minimumTime;
+	}
+
+	private static String[] createValues() {
+		String[] values = new String[DISTINCT_VALUE_COUNT];
+		for ( int i = 0; i < DISTINCT_VALUE_COUNT; i++ ) {
+			values[i] = "user" + i;
+		}
+		return values;
+	}
+
+	/**
+	 * Inputs known to cause catastrophic backtracking in naive email regular expressions: repetitions of the characters
+	 * allowed in the local part and in the domain labels, not followed by a valid ending. The inputs stay within the
+	 * lengths of real addresses, {@value #MAX_LOCAL_PART_LENGTH} characters for the local part and
+	 * {@value #MAX_DOMAIN_LENGTH} for the domain, so that they measure the backtracking and not the depth of the stack
+	 * the provider needs for long inputs.
+	 */
+	private static String[] createPathologicalEmails() {
+		return new String[] {
+				repeat( "a", MAX_LOCAL_PART_LENGTH ) + "!",
+				repeat( "a.", MAX_LOCAL_PART_LENGTH / 2 ) + "@",
+				repeat( "a", MAX_LOCAL_PART_LENGTH ) + "@example.com!",
+				"a@" + repeat( "a", 63 ) + "!",
+				"a@" + repeat( "a.", ( MAX_DOMAIN_LENGTH - 1 ) / 2 ) + "!",
+				"a@" + repeat( "a-", ( MAX_DOMAIN_LENGTH - 1 ) / 2 ) + "!",
+				"a@" + repeat( "a-a.", ( MAX_DOMAIN_LENGTH - 1 ) / 4 ) + "-",
+				repeat( "\"\\a", MAX_LOCAL_PART_LENGTH / 3 ) + "@example.com",
+				repeat( "a@", MAX_LOCAL_PART_LENGTH / 2 ) + "example.com",
+				repeat( "!#$%&'*+/=?^_`{|}~-", MAX_LOCAL_PART_LENGTH / 19 ) + "@example.com!"
+		};
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder repeated = new StringBuilder( value.length() * count );
+		for ( int i = 0; i < count; i++ ) {
+			repeated.append( value );
+		}
+		return repeated.toString();
+	}
+
+	private static class PatternEntity {
+
+		@Pattern(regexp = REGEXP)
+		private String pattern;
+
+		@NotNull
+		private String reference;
+	}
+
+	private static class EmailEntity {
+
+		@Email(regexp = REGEXP)
+		private String emailWithRegexp;
+
+		@Email
+		private String email;
+	}
+}
@@ -0,0 +1,74 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+
+/**
+ * A not null constraint counting the invocations of {@code isValid()} per label.
+ */
+@Constraint(validatedBy = CountingConstraint.Validator.class)
+@Documented
+@Target({ METHOD, FIELD, ANNOTATION_TYPE })
+@Retention(RUNTIME)
+public @interface CountingConstraint {
+
+	/**
+	 * The label under which the invocations are counted.
+	 */
+	String value();
+
+	String message() default "counting constraint";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	public class Validator implements ConstraintValidator<CountingConstraint, Object> {
+
+		private static final ConcurrentMap<String, AtomicInteger> INVOCATION_COUNTS = new ConcurrentHashMap<>();
+
+		private AtomicInteger invocationCount;
+
+		public static int getInvocationCount(String label) {
+			AtomicInteger invocationCount = INVOCATION_COUNTS.get( label );
+			return invocationCount == null ? 0 : invocationCount.get();
+		}
+
+		public static void resetInvocationCounts() {
+			for ( AtomicInteger invocationCount : INVOCATION_COUNTS.values() ) {
+				invocationCount.set( 0 );
+			}
+		}
+
+		@Override
+		public void initialize(CountingConstraint constraintAnnotation) {
+			invocationCount = INVOCATION_COUNTS.computeIfAbsent( constraintAnnotation.value(), label -> new AtomicInteger() );
+		}
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			invocationCount.incrementAndGet();
+			return value != null;
+		}
+	}
+}
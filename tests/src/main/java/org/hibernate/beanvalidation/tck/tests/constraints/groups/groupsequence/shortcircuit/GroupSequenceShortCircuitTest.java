@@ -0,0 +1,139 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit;
+
+import static org.hibernate.beanvalidation.tck.util.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.beanvalidation.tck.util.ConstraintViolationAssert.assertThat;
+import static org.hibernate.beanvalidation.tck.util.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecVersion;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Counts the {@code isValid()} invocations of the constraints of a sequence to check that the groups following a
+ * failing group are not evaluated, whether the sequence is flat, nested or redefines the default group.
+ */
+@SpecVersion(spec = "beanvalidation", version = "2.0.0")
+public class GroupSequenceShortCircuitTest extends AbstractTCKTest {
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClassPackage( GroupSequenceShortCircuitTest.class )
+				.build();
+	}
+
+	@BeforeMethod
+	public void resetInvocationCounts() {
+		CountingConstraint.Validator.resetInvocationCounts();
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "b")
+	public void testAllGroupsOfAValidSequenceAreEvaluatedOnce() {
+		Set<ConstraintViolation<SequencedBean>> violations = getValidator().validate( new SequencedBean(), Groups.Sequence16.class );
+
+		assertNoViolations( violations );
+		assertGroupsEvaluatedUpTo( SequencedBean.GROUP_COUNT );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "b")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "d")
+	public void testGroupsFollowingTheFirstFailingGroupAreNotEvaluated() {
+		for ( int failingGroup : new int[] { 1, 8, SequencedBean.GROUP_COUNT } ) {
+			CountingConstraint.Validator.resetInvocationCounts();
+
+			Set<ConstraintViolation<SequencedBean>> violations = getValidator().validate(
+					new SequencedBean().invalidate( failingGroup ).invalidate( SequencedBean.GROUP_COUNT ),
+					Groups.Sequence16.class
+			);
+
+			assertThat( violations ).containsOnlyViolations(
+					violationOf( CountingConstraint.class ).withProperty( "property" + failingGroup )
+			);
+			assertGroupsEvaluatedUpTo( failingGroup );
+		}
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "b")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "c")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "d")
+	public void testGroupsFollowingTheFirstFailingGroupOfNestedSequencesAreNotEvaluated() {
+		Set<ConstraintViolation<SequencedBean>> violations = getValidator().validate(
+				new SequencedBean().invalidate( 6 ),
+				Groups.NestedSequence16.class
+		);
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( CountingConstraint.class ).withProperty( "property6" )
+		);
+		assertGroupsEvaluatedUpTo( 6 );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "b")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "c")
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_GROUPSEQUENCE, id = "d")
+	public void testGroupsFollowingTheFirstFailingGroupOfChainedSequencesAreNotEvaluated() {
+		Set<ConstraintViolation<SequencedBean>> violations = getValidator().validate(
+				new SequencedBean().invalidate( 3 ),
+				Groups.ChainedSequence1.class
+		);
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( CountingConstraint.class ).withProperty( "property3" )
+		);
+		assertGroupsEvaluatedUpTo( 3 );
+	}
+
+	@Test
+	@SpecAssertion(section = Sections.CONSTRAINTDECLARATIONVALIDATIONPROCESS_GROUPSEQUENCE_REDEFININGDEFAULTGROUP, id = "a")
+	public void testExpensiveGroupOfRedefinedDefaultGroupIsNotEvaluatedIfDefaultGroupFails() {
+		Set<ConstraintViolation<RedefinedDefaultBean>> violations = getValidator().validate( new RedefinedDefaultBean( null ) );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( CountingConstraint.class ).withProperty( "cheap" )
+		);
+		assertEquals( CountingConstraint.Validator.getInvocationCount( RedefinedDefaultBean.CHEAP ), 1 );
+		assertEquals( CountingConstraint.Validator.getInvocationCount( RedefinedDefaultBean.EXPENSIVE ), 0 );
+
+		CountingConstraint.Validator.resetInvocationCounts();
+		violations = getValidator().validate( new RedefinedDefaultBean( "value" ) );
+
+		assertNoViolations( violations );
+		assertEquals( CountingConstraint.Validator.getInvocationCount( RedefinedDefaultBean.CHEAP ), 1 );
+		assertEquals( CountingConstraint.Validator.getInvocationCount( RedefinedDefaultBean.EXPENSIVE ), 1 );
+	}
+
+	/**
+	 * Asserts that the constraints of the groups 1 to {@code lastEvaluatedGroup} were evaluated once and that the
+	 * constraints of the following groups were not evaluated.
+	 */
+	private static void assertGroupsEvaluatedUpTo(int lastEvaluatedGroup) {
+		for ( int group = 1; group <= SequencedBean.GROUP_COUNT; group++ ) {
+			assertEquals(
+					CountingConstraint.Validator.getInvocationCount( SequencedBean.getLabel( group ) ),
+					group <= lastEvaluatedGroup ? 1 : 0,
+					"Unexpected number of evaluations of the constraint of group " + group + " when the group "
+							+ lastEvaluatedGroup + " is the last one to be evaluated"
+			);
+		}
+	}
+}
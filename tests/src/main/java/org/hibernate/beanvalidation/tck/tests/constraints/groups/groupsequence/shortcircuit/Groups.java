@@ -0,0 +1,184 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit;
+
+import javax.validation.GroupSequence;
+
+/**
+ * The groups and sequences validated by {@link GroupSequenceShortCircuitTest}: flat sequences of 1 to 16 groups, a
+ * sequence of 16 groups nested as four sequences of four groups and a sequence of 16 groups chained as 16 sequences
+ * each containing a group and the next sequence.
+ */
+public final class Groups {
+
+	private Groups() {
+	}
+
+	public interface Group1 {
+	}
+
+	public interface Group2 {
+	}
+
+	public interface Group3 {
+	}
+
+	public interface Group4 {
+	}
+
+	public interface Group5 {
+	}
+
+	public interface Group6 {
+	}
+
+	public interface Group7 {
+	}
+
+	public interface Group8 {
+	}
+
+	public interface Group9 {
+	}
+
+	public interface Group10 {
+	}
+
+	public interface Group11 {
+	}
+
+	public interface Group12 {
+	}
+
+	public interface Group13 {
+	}
+
+	public interface Group14 {
+	}
+
+	public interface Group15 {
+	}
+
+	public interface Group16 {
+	}
+
+	@GroupSequence({ Group1.class })
+	public interface Sequence1 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class })
+	public interface Sequence2 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class, Group3.class, Group4.class })
+	public interface Sequence4 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class, Group3.class, Group4.class, Group5.class, Group6.class, Group7.class, Group8.class })
+	public interface Sequence8 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class, Group3.class, Group4.class, Group5.class, Group6.class, Group7.class, Group8.class, Group9.class, Group10.class, Group11.class, Group12.class, Group13.class, Group14.class, Group15.class, Group16.class })
+	public interface Sequence16 {
+	}
+
+	@GroupSequence({ Group1.class, Group2.class, Group3.class, Group4.class })
+	public interface Quarter1 {
+	}
+
+	@GroupSequence({ Group5.class, Group6.class, Group7.class, Group8.class })
+	public interface Quarter2 {
+	}
+
+	@GroupSequence({ Group9.class, Group10.class, Group11.class, Group12.class })
+	public interface Quarter3 {
+	}
+
+	@GroupSequence({ Group13.class, Group14.class, Group15.class, Group16.class })
+	public interface Quarter4 {
+	}
+
+	/**
+	 * The groups 1 to 16, as a sequence of the four {@code Quarter} sequences.
+	 */
+	@GroupSequence({ Quarter1.class, Quarter2.class, Quarter3.class, Quarter4.class })
+	public interface NestedSequence16 {
+	}
+
+	/**
+	 * The groups 1 to 16, as group 1 followed by the next chained sequence.
+	 */
+	@GroupSequence({ Group1.class, ChainedSequence2.class })
+	public interface ChainedSequence1 {
+	}
+
+	@GroupSequence({ Group2.class, ChainedSequence3.class })
+	public interface ChainedSequence2 {
+	}
+
+	@GroupSequence({ Group3.class, ChainedSequence4.class })
+	public interface ChainedSequence3 {
+	}
+
+	@GroupSequence({ Group4.class, ChainedSequence5.class })
+	public interface ChainedSequence4 {
+	}
+
+	@GroupSequence({ Group5.class, ChainedSequence6.class })
+	public interface ChainedSequence5 {
+	}
+
+	@GroupSequence({ Group6.class, ChainedSequence7.class })
+	public interface ChainedSequence6 {
+	}
+
+	@GroupSequence({ Group7.class, ChainedSequence8.class })
+	public interface ChainedSequence7 {
+	}
+
+	@GroupSequence({ Group8.class, ChainedSequence9.class })
+	public interface ChainedSequence8 {
+	}
+
+	@GroupSequence({ Group9.class, ChainedSequence10.class })
+	public interface ChainedSequence9 {
+	}
+
+	@GroupSequence({ Group10.class, ChainedSequence11.class })
+	public interface ChainedSequence10 {
+	}
+
+	@GroupSequence({ Group11.class, ChainedSequence12.class })
+	public interface ChainedSequence11 {
+	}
+
+	@GroupSequence({ Group12.class, ChainedSequence13.class })
+	public interface ChainedSequence12 {
+	}
+
+	@GroupSequence({ Group13.class, ChainedSequence14.class })
+	public interface ChainedSequence13 {
+	}
+
+	@GroupSequence({ Group14.class, ChainedSequence15.class })
+	public interface ChainedSequence14 {
+	}
+
+	@GroupSequence({ Group15.class, ChainedSequence16.class })
+	public interface ChainedSequence15 {
+	}
+
+	@GroupSequence({ Group16.class })
+	public interface ChainedSequence16 {
+	}
+
+	/**
+	 * The group of the expensive constraint of {@link RedefinedDefaultBean}.
+	 */
+	public interface Expensive {
+	}
+}
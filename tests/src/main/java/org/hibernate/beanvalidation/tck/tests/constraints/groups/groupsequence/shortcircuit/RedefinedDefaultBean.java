@@ -0,0 +1,30 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit;
+
+import javax.validation.GroupSequence;
+
+/**
+ * A bean redefining its default group to validate an expensive constraint after the cheap one.
+ */
+@GroupSequence({ RedefinedDefaultBean.class, Groups.Expensive.class })
+public class RedefinedDefaultBean {
+
+	public static final String CHEAP = "cheap";
+
+	public static final String EXPENSIVE = "expensive";
+
+	@CountingConstraint(CHEAP)
+	private final String cheap;
+
+	@CountingConstraint(value = EXPENSIVE, groups = Groups.Expensive.class)
+	private final String expensive = "value";
+
+	public RedefinedDefaultBean(String cheap) {
+		this.cheap = cheap;
+	}
+}
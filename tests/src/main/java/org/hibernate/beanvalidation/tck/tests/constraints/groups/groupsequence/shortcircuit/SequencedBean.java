@@ -0,0 +1,116 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.constraints.groups.groupsequence.shortcircuit;
+
+import java.util.Arrays;
+
+/**
+ * A bean with one {@link CountingConstraint} per group of {@link Groups}, the constraint of group <i>n</i> being
+ * labelled {@link #getLabel(int) group<i>n</i>}. All the properties are valid unless invalidated.
+ */
+public class SequencedBean {
+
+	public static final int GROUP_COUNT = 16;
+
+	private final String[] properties = new String[GROUP_COUNT];
+
+	public SequencedBean() {
+		Arrays.fill( properties, "value" );
+	}
+
+	/**
+	 * Makes the constraint of the given group, from 1 to {@link #GROUP_COUNT}, fail.
+	 */
+	public SequencedBean invalidate(int group) {
+		properties[group - 1] = null;
+		return this;
+	}
+
+	public static String getLabel(int group) {
+		return "group" + group;
+	}
+
+	@CountingConstraint(value = "group1", groups = Groups.Group1.class)
+	public String getProperty1() {
+		return properties[0];
+	}
+
+	@CountingConstraint(value = "group2", groups = Groups.Group2.class)
+	public String getProperty2() {
+		return properties[1];
+	}
+
+	@CountingConstraint(value = "group3", groups = Groups.Group3.class)
+	public String getProperty3() {
+		return properties[2];
+	}
+
+	@CountingConstraint(value = "group4", groups = Groups.Group4.class)
+	public String getProperty4() {
+		return properties[3];
+	}
+
+	@CountingConstraint(value = "group5", groups = Groups.Group5.class)
+	public String getProperty5() {
+		return properties[4];
+	}
+
+	@CountingConstraint(value = "group6", groups = Groups.Group6.class)
+	public String getProperty6() {
+		return properties[5];
+	}
+
+	@CountingConstraint(value = "group7", groups = Groups.Group7.class)
+	public String getProperty7() {
+		return properties[6];
+	}
+
+	@CountingConstraint(value = "group8", groups = Groups.Group8.class)
+	public String getProperty8() {
+		return properties[7];
+	}
+
+	@CountingConstraint(value = "group9", groups = Groups.Group9.class)
+	public String getProperty9() {
+		return properties[8];
+	}
+
+	@CountingConstraint(value = "group10", groups = Groups.Group10.class)
+	public String getProperty10() {
+		return properties[9];
+	}
+
+	@CountingConstraint(value = "group11", groups = Groups.Group11.class)
+	public String getProperty11() {
+		return properties[10];
+	}
+
+	@CountingConstraint(value = "group12", groups = Groups.Group12.class)
+	public String getProperty12() {
+		return properties[11];
+	}
+
+	@CountingConstraint(value = "group13", groups = Groups.Group13.class)
+	public String getProperty13() {
+		return properties[12];
+	}
+
+	@CountingConstraint(value = "group14", groups = Groups.Group14.class)
+	public String getProperty14() {
+		return properties[13];
+	}
+
+	@CountingConstraint(value = "group15", groups = Groups.Group15.class)
+	public String getProperty15() {
+		return properties[14];
+	}
+
+	@CountingConstraint(value = "group16", groups = Groups.Group16.class)
+	public String getProperty16() {
+		return properties[15];
+	}
+}
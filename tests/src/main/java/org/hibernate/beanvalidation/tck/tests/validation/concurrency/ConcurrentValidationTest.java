@@ -0,0 +1,255 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.validation.concurrency;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.constraint.MyCrossParameterConstraint;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.ContainerElementsOrder;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Item;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.model.ProductCategory;
+import org.hibernate.beanvalidation.tck.tests.methodvalidation.service.OrderService;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Address;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.Order;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.OrderLine;
+import org.hibernate.beanvalidation.tck.tests.validation.graphnavigation.User;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Shares a single {@link Validator} between several threads and checks that each thread gets exactly the constraint
+ * violations returned by a single-threaded execution.
+ * <p>
+ * The number of threads is given by the system property <i>concurrentValidationThreadCount</i> (by default, the number
+ * of available processors, at least 2) and the number of times each thread executes all the validations by the
+ * system property <i>concurrentValidationIterations</i> (100 by default). The validator is obtained from a validator
+ * factory dedicated to this test so that the threads also build the metadata of the validated types concurrently.
+ */
+public class ConcurrentValidationTest extends AbstractTCKTest {
+
+	/**
+	 * Name of the system property for configuring the number of threads sharing the validator.
+	 */
+	private static final String THREAD_COUNT = "concurrentValidationThreadCount";
+
+	/**
+	 * Name of the system property for configuring the number of times each thread executes the validations.
+	 */
+	private static final String ITERATIONS = "concurrentValidationIterations";
+
+	private static final long TIMEOUT_MINUTES = 5;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( ConcurrentValidationTest.class )
+				.withPackage( Order.class.getPackage() )
+				.withPackage( ContainerElementsOrder.class.getPackage() )
+				.withPackage( MyCrossParameterConstraint.class.getPackage() )
+				.withPackage( OrderService.class.getPackage() )
+				.build();
+	}
+
+	/**
+	 * Runs all the validation tasks concurrently on a shared validator and compares the violations of each thread with
+	 * the ones of a single-threaded run. A failure shows that the validator is not thread-safe, but a successful run
+	 * does not prove that it is: the thread-safety of validators, required by the specification, is not testable.
+	 */
+	@Test
+	public void testSharedValidatorReturnsTheSameViolationsInAllThreads() throws Exception {
+		Map<String, ValidationTask> tasks = createValidationTasks();
+
+		// the expected violations are computed by a single thread
+		Map<String, List<String>> expectedViolations = new HashMap<>();
+		Validator singleThreadedValidator = TestUtil.getValidatorUnderTest();
+		for ( Map.Entry<String, ValidationTask> task : tasks.entrySet() ) {
+			expectedViolations.put( task.getKey(), describe( task.getValue().validate( singleThreadedValidator ) ) );
+		}
+		assertFalse( expectedViolations.get( "validate(invalid Order)" ).isEmpty(), "The invalid order should have violations" );
+
+		int threadCount = Integer.getInteger( THREAD_COUNT, Math.max( 2, Runtime.getRuntime().availableProcessors() ) );
+		int iterations = Integer.getInteger( ITERATIONS, 100 );
+
+		ValidatorFactory validatorFactory = TestUtil.getConfigurationUnderTest().buildValidatorFactory();
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			Validator sharedValidator = validatorFactory.getValidator();
+			CountDownLatch start = new CountDownLatch( 1 );
+
+			List<Future<List<String>>> results = new ArrayList<>();
+			for ( int i = 0; i < threadCount; i++ ) {
+				int offset = i;
+				results.add( executor.submit( () -> {
+					start.await();
+					return validateConcurrently( sharedValidator, tasks, expectedViolations, iterations, offset );
+				} ) );
+			}
+			start.countDown();
+
+			List<String> errors = new ArrayList<>();
+			for ( Future<List<String>> result : results ) {
+				errors.addAll( result.get( TIMEOUT_MINUTES, TimeUnit.MINUTES ) );
+			}
+
+			assertTrue( errors.isEmpty(), "Validating concurrently with a shared validator led to different results: " + errors );
+		}
+		finally {
+			executor.shutdownNow();
+			validatorFactory.close();
+		}
+	}
+
+	/**
+	 * Executes all the tasks the given number of times, starting with a different task in each thread, and returns
+	 * the differences with the expected violations.
+	 */
+	private static List<String> validateConcurrently(Validator validator, Map<String, ValidationTask> tasks,
+			Map<String, List<String>> expectedViolations, int iterations, int offset) {
+		List<String> taskNames = new ArrayList<>( tasks.keySet() );
+		Collections.rotate( taskNames, offset );
+
+		List<String> errors = new ArrayList<>();
+		for ( int i = 0; i < iterations && errors.isEmpty(); i++ ) {
+			for ( String taskName : taskNames ) {
+				try {
+					List<String> violations = describe( tasks.get( taskName ).validate( validator ) );
+					if ( !violations.equals( expectedViolations.get( taskName ) ) ) {
+						errors.add( Thread.currentThread().getName() + " - " + taskName + ": expected "
+								+ expectedViolations.get( taskName ) + " but was " + violations );
+					}
+				}
+				catch (Exception e) {
+					errors.add( Thread.currentThread().getName() + " - " + taskName + ": " + e );
+				}
+			}
+		}
+		return errors;
+	}
+
+	private static Map<String, ValidationTask> createValidationTasks() throws Exception {
+		Map<String, ValidationTask> tasks = new LinkedHashMap<>();
+
+		// graph navigation
+		Order validOrder = createOrder( "Kungsgatan 5" );
+		Order invalidOrder = createOrder( null );
+		User john = new User( "John", "Doe" );
+		User jane = new User( "Jane", null );
+		john.knows( jane );
+		jane.knows( john );
+		Address invalidAddress = new Address( null, "11122", "Stockholm" );
+
+		tasks.put( "validate(valid Order)", validator -> validator.validate( validOrder ) );
+		tasks.put( "validate(invalid Order)", validator -> validator.validate( invalidOrder ) );
+		tasks.put( "validate(cyclic Users)", validator -> validator.validate( john ) );
+		tasks.put( "validateProperty(Address.addressline1)", validator -> validator.validateProperty( invalidAddress, "addressline1" ) );
+		tasks.put( "validateValue(Address.zipCode)", validator -> validator.validateValue( Address.class, "zipCode", null ) );
+
+		// container elements
+		ContainerElementsOrder containerElementsOrder = new ContainerElementsOrder( "order name" );
+		containerElementsOrder.addOrderLine( null, new org.hibernate.beanvalidation.tck.tests.methodvalidation.model.OrderLine( new Item( "item name" ) ) );
+		containerElementsOrder.addOrderLine( ProductCategory.MUSIC, new org.hibernate.beanvalidation.tck.tests.methodvalidation.model.OrderLine( new Item( "s" ) ) );
+
+		tasks.put( "validate(ContainerElementsOrder)", validator -> validator.validate( containerElementsOrder ) );
+
+		// method validation
+		OrderService orderService = new OrderService();
+		Method placeOrder = OrderService.class.getMethod( "placeOrder", String.class, Item.class, int.class );
+		Constructor<OrderService> orderServiceConstructor = OrderService.class.getConstructor( String.class, Item.class, int.class );
+		Object[] invalidParameters = new Object[] { null, new Item( "" ), 0 };
+		Object invalidReturnValue = new org.hibernate.beanvalidation.tck.tests.methodvalidation.model.Order( "" );
+		OrderService invalidOrderService = new OrderService( "" );
+
+		tasks.put( "validateParameters(OrderService#placeOrder)",
+				validator -> validator.forExecutables().validateParameters( orderService, placeOrder, invalidParameters ) );
+		tasks.put( "validateReturnValue(OrderService#placeOrder)",
+				validator -> validator.forExecutables().validateReturnValue( orderService, placeOrder, invalidReturnValue ) );
+		tasks.put( "validateConstructorParameters(OrderService)",
+				validator -> validator.forExecutables().validateConstructorParameters( orderServiceConstructor, invalidParameters ) );
+		tasks.put( "validateConstructorReturnValue(OrderService)",
+				validator -> validator.forExecutables().validateConstructorReturnValue( orderServiceConstructor, invalidOrderService ) );
+
+		return tasks;
+	}
+
+	private static Order createOrder(String shippingAddressLine) {
+		User user = new User( "John", "Doe" );
+
+		Address shippingAddress = new Address( shippingAddressLine, "11122", "Stockholm" );
+		shippingAddress.setInhabitant( user );
+
+		Address billingAddress = new Address( "Kungsgatan 5", "11122", "Stockholm" );
+		billingAddress.setInhabitant( user );
+
+		user.addAddress( shippingAddress );
+		user.addAddress( billingAddress );
+
+		Order order = new Order( 1 );
+		order.setShippingAddress( shippingAddress );
+		order.setBillingAddress( billingAddress );
+		order.setCustomer( user );
+
+		order.addOrderLine( new OrderLine( order, 42 ) );
+		order.addOrderLine( new OrderLine( order, 101 ) );
+
+		return order;
+	}
+
+	/**
+	 * Describes the given violations in a way which does not depend on the order of the violations, nor on the
+	 * identity of the violation objects.
+	 */
+	private static List<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+		List<String> descriptions = new ArrayList<>();
+		for ( ConstraintViolation<?> violation : violations ) {
+			StringBuilder description = new StringBuilder();
+			description.append( violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() )
+					.append( " on " ).append( violation.getRootBeanClass().getSimpleName() );
+			for ( Path.Node node : violation.getPropertyPath() ) {
+				description.append( '/' ).append( node.getKind() ).append( ':' ).append( node.getName() );
+				if ( node.isInIterable() ) {
+					description.append( '[' ).append( node.getIndex() ).append( ',' ).append( node.getKey() ).append( ']' );
+				}
+			}
+			description.append( " leaf=" ).append( System.identityHashCode( violation.getLeafBean() ) )
+					.append( " value=" ).append( violation.getInvalidValue() )
+					.append( " message=" ).append( violation.getMessage() );
+			descriptions.add( description.toString() );
+		}
+		Collections.sort( descriptions );
+		return descriptions;
+	}
+
+	@FunctionalInterface
+	private interface ValidationTask {
+
+		Set<? extends ConstraintViolation<?>> validate(Validator validator);
+	}
+}
@@ -0,0 +1,274 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.validation.graphnavigation;
+
+import static org.testng.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.util.HeapUsage;
+import org.hibernate.beanvalidation.tck.util.StressTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Validates graphs of growing numbers of {@link User} and {@link Address} nodes and checks how the validation time
+ * grows with the number of nodes.
+ * <p>
+ * The wide fan-outs and the cyclic graphs have 10³, 10⁴ and 10⁵ nodes, up to <i>graphNavigationScalabilityMaxNodes</i>
+ * nodes (10⁵ by default, 10⁶ being the next size). Every node is validated once, so their validation time is expected
+ * to grow linearly.
+ * <p>
+ * The deep chains have 10³, 3·10³ and 10⁴ nodes, up to <i>graphNavigationScalabilityMaxDepth</i> nodes (10⁴ by
+ * default, 3·10⁴ and 10⁵ being the next sizes). The cascaded validation of a chain is recursive in all the known
+ * providers, so the validation runs in a thread with a large stack. The validation time of the chains is only logged:
+ * the reference implementation builds the property path of each node of a chain from the path of its parent, so it
+ * grows quadratically with the length of the chain whatever the cost of tracking the processed beans.
+ * <p>
+ * For the fan-outs and the cyclic graphs, the time of a size may be at most
+ * <i>graphNavigationScalabilityTolerance</i> (3 by default) times the time of the previous size multiplied by the node
+ * ratio. The time spent in garbage collections is
+ * subtracted from the measured times: with the allocation rate of a validation, it would otherwise account for most of
+ * the time of the large graphs. For each size, the validation time, the garbage collection time and the peak heap are
+ * logged. The graph and its validation take about 2 KB of heap per node: the test is skipped if the maximum heap is
+ * less than 3 KB per node of the largest size, e.g. 300 MB for 10⁵ nodes and 3 GB (i.e. {@code -Xmx4g}) for 10⁶ nodes.
+ */
+@StressTest
+public class GraphNavigationScalabilityTest extends AbstractTCKTest {
+
+	private static final Logger log = Logger.getLogger( GraphNavigationScalabilityTest.class.getName() );
+
+	/**
+	 * Name of the system property for configuring the tolerated deviation from the expected growth.
+	 */
+	private static final String TOLERANCE = "graphNavigationScalabilityTolerance";
+
+	/**
+	 * Name of the system property for configuring the maximum number of nodes of the wide fan-outs and cyclic graphs.
+	 */
+	private static final String MAX_NODES = "graphNavigationScalabilityMaxNodes";
+
+	/**
+	 * Name of the system property for configuring the maximum number of nodes of the deep chains.
+	 */
+	private static final String MAX_DEPTH = "graphNavigationScalabilityMaxDepth";
+
+	private static final int[] NODE_COUNTS = { 1_000, 10_000, 100_000, 1_000_000 };
+
+	private static final int[] DEPTHS = { 1_000, 3_000, 10_000, 30_000, 100_000 };
+
+	/**
+	 * Heap required per node of the largest graph, to hold the graph and the state of its validation.
+	 */
+	private static final long HEAP_PER_NODE = 3 * 1024;
+
+	private static final long STACK_SIZE = 1024L * 1024 * 1024;
+
+	private static final int MIN_RUNS = 3;
+
+	private static final long MIN_MEASUREMENT_NANOS = TimeUnit.MILLISECONDS.toNanos( 500 );
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( GraphNavigationScalabilityTest.class )
+				.withClasses( User.class, Address.class )
+				.build();
+	}
+
+	@Test
+	public void testWideFanOutScalesLinearly() throws Exception {
+		assertLinearGrowth( "wide fan-out", NODE_COUNTS, Integer.getInteger( MAX_NODES, 100_000 ),
+				GraphNavigationScalabilityTest::createWideFanOut );
+	}
+
+	@Test
+	public void testCyclicGraphScalesLinearly() throws Exception {
+		assertLinearGrowth( "cyclic graph", NODE_COUNTS, Integer.getInteger( MAX_NODES, 100_000 ),
+				GraphNavigationScalabilityTest::createCyclicGraph );
+	}
+
+	@Test
+	public void testDeepChainValidationTimeIsLogged() throws Exception {
+		int maxDepth = Integer.getInteger( MAX_DEPTH, 10_000 );
+		checkHeap( "deep chain", maxDepth );
+
+		Validator validator = TestUtil.getValidatorUnderTest();
+
+		// warm up the cascaded validation of the provider
+		measure( "deep chain", DEPTHS[0], GraphNavigationScalabilityTest::createDeepChain, validator );
+
+		for ( int depth : DEPTHS ) {
+			if ( depth > maxDepth ) {
+				break;
+			}
+			measure( "deep chain", depth, GraphNavigationScalabilityTest::createDeepChain, validator );
+		}
+	}
+
+	/**
+	 * Asserts that the validation time grows at most linearly with the number of nodes.
+	 */
+	private void assertLinearGrowth(String shape, int[] nodeCounts, int maxNodeCount, IntFunction<User> graphFactory)
+			throws Exception {
+		checkHeap( shape, maxNodeCount );
+
+		double tolerance = Double.parseDouble( System.getProperty( TOLERANCE, "3" ) );
+		Validator validator = TestUtil.getValidatorUnderTest();
+
+		// warm up the cascaded validation of the provider
+		measure( shape, nodeCounts[0], graphFactory, validator );
+
+		int previousNodeCount = 0;
+		long previousTime = 0;
+		for ( int nodeCount : nodeCounts ) {
+			if ( nodeCount > maxNodeCount ) {
+				break;
+			}
+
+			long time = measure( shape, nodeCount, graphFactory, validator );
+			if ( previousNodeCount > 0 ) {
+				double nodeRatio = (double) nodeCount / previousNodeCount;
+				double timeRatio = (double) time / previousTime;
+				assertTrue(
+						timeRatio <= nodeRatio * tolerance,
+						"Validating a " + shape + " of " + nodeCount + " nodes took " + timeRatio + " times as long as for "
+								+ previousNodeCount + " nodes, for " + nodeRatio + " times as many nodes"
+				);
+			}
+			previousNodeCount = nodeCount;
+			previousTime = time;
+		}
+	}
+
+	private static void checkHeap(String shape, int maxNodeCount) {
+		long requiredHeap = maxNodeCount * HEAP_PER_NODE;
+		if ( Runtime.getRuntime().maxMemory() < requiredHeap ) {
+			throw new SkipException( "Validating a " + shape + " of " + maxNodeCount + " nodes requires a heap of "
+					+ requiredHeap / ( 1024 * 1024 ) + " MB, set -Xmx accordingly" );
+		}
+	}
+
+	/**
+	 * Validates the graph of the given number of nodes until enough time has elapsed and returns the shortest time
+	 * spent outside of garbage collections, in nanoseconds.
+	 */
+	private long measure(String shape, int nodeCount, IntFunction<User> graphFactory, Validator validator) throws Exception {
+		User root = graphFactory.apply( nodeCount );
+
+		long baselineHeap = HeapUsage.getUsedHeapAfterGc();
+		HeapUsage.resetPeakHeap();
+
+		long[] minimumTime = { Long.MAX_VALUE };
+		long[] gcTime = { 0 };
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread thread = new Thread( null, () -> {
+			try {
+				long totalTime = 0;
+				for ( int run = 0; run < MIN_RUNS || totalTime < MIN_MEASUREMENT_NANOS; run++ ) {
+					long startGcTime = HeapUsage.getGcTime();
+					long start = System.nanoTime();
+					Set<ConstraintViolation<User>> constraintViolations = validator.validate( root );
+					long time = System.nanoTime() - start;
+					long runGcTime = TimeUnit.MILLISECONDS.toNanos( HeapUsage.getGcTime() - startGcTime );
+
+					assertTrue( constraintViolations.isEmpty(), "The " + shape + " should be valid: " + constraintViolations );
+					if ( time - runGcTime < minimumTime[0] ) {
+						minimumTime[0] = Math.max( 0, time - runGcTime );
+						gcTime[0] = runGcTime;
+					}
+					totalTime += time;
+				}
+			}
+			catch (Throwable e) {
+				failure.set( e );
+			}
+		}, "graph-navigation-scalability", STACK_SIZE );
+		thread.start();
+		thread.join();
+
+		if ( failure.get() instanceof Error ) {
+			throw (Error) failure.get();
+		}
+		if ( failure.get() != null ) {
+			throw new IllegalStateException( "Unable to validate a " + shape + " of " + nodeCount + " nodes", failure.get() );
+		}
+
+		log.info( String.format( "%s of %,d nodes: validation time %,d µs (excluding %,d µs of garbage collection), peak heap %,d KB",
+				shape, nodeCount, minimumTime[0] / 1_000, gcTime[0] / 1_000, ( HeapUsage.getPeakHeap() - baselineHeap ) / 1_024 ) );
+
+		return minimumTime[0];
+	}
+
+	/**
+	 * A root user knowing users which each have an address, i.e. a graph of depth 3 without cycle.
+	 */
+	private static User createWideFanOut(int nodeCount) {
+		User root = createUser( 0 );
+		for ( int i = 1; i < nodeCount / 2; i++ ) {
+			User user = createUser( i );
+			user.addAddress( createAddress( i ) );
+			root.knows( user );
+		}
+		return root;
+	}
+
+	/**
+	 * A root user knowing users which each know the root and live at an address referencing them back, i.e. a graph
+	 * of depth 3 where every node is part of a cycle.
+	 */
+	private static User createCyclicGraph(int nodeCount) {
+		User root = createUser( 0 );
+		for ( int i = 1; i < nodeCount / 2; i++ ) {
+			User user = createUser( i );
+			Address address = createAddress( i );
+			address.setInhabitant( user );
+			user.addAddress( address );
+			user.knows( root );
+			root.knows( user );
+		}
+		return root;
+	}
+
+	/**
+	 * A chain of users knowing the next one and living at an address referencing them back, the last user knowing the
+	 * first one.
+	 */
+	private static User createDeepChain(int nodeCount) {
+		User root = createUser( 0 );
+		User previous = root;
+		for ( int i = 1; i < nodeCount / 2; i++ ) {
+			User user = createUser( i );
+			Address address = createAddress( i );
+			address.setInhabitant( user );
+			user.addAddress( address );
+			previous.knows( user );
+			previous = user;
+		}
+		previous.knows( root );
+		return root;
+	}
+
+	private static User createUser(int index) {
+		return new User( "John", "Doe " + index );
+	}
+
+	private static Address createAddress(int index) {
+		return new Address( "Kungsgatan " + index, "11122", "Stockholm" );
+	}
+}
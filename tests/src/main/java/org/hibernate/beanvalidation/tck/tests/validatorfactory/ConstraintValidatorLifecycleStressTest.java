@@ -0,0 +1,151 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.validatorfactory;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javax.validation.Configuration;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.util.StressTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Runs thousands of validations of a bean with several {@link CountingConstraint} declarations, from one thread and from one
+ * thread per available processor, and checks that the numbers of {@code ConstraintValidatorFactory#getInstance()} and
+ * {@code ConstraintValidator#initialize()} calls do not grow with the number of validations once each declaration has
+ * been validated.
+ * <p>
+ * The numbers of calls per constraint declaration are logged.
+ */
+@StressTest
+public class ConstraintValidatorLifecycleStressTest extends AbstractTCKTest {
+
+	private static final Logger log = Logger.getLogger( ConstraintValidatorLifecycleStressTest.class.getName() );
+
+	private static final int DECLARATION_COUNT = 3;
+
+	private static final int WARMUP_VALIDATION_COUNT = 1_000;
+
+	private static final int VALIDATION_COUNT = 10_000;
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClass( ConstraintValidatorLifecycleStressTest.class )
+				.withClasses(
+						CountingConstraint.class,
+						CountingConstraintValidator.class,
+						CountingConstraintValidatorFactory.class
+				)
+				.build();
+	}
+
+	@Test
+	public void testLifecycleCallsDoNotGrowWithValidationsFromOneThread() throws Exception {
+		assertLifecycleCallsDoNotGrow( 1 );
+	}
+
+	@Test
+	public void testLifecycleCallsDoNotGrowWithValidationsFromManyThreads() throws Exception {
+		assertLifecycleCallsDoNotGrow( Runtime.getRuntime().availableProcessors() );
+	}
+
+	private void assertLifecycleCallsDoNotGrow(int threadCount) throws Exception {
+		Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+		CountingConstraintValidatorFactory constraintValidatorFactory = new CountingConstraintValidatorFactory(
+				configuration.getDefaultConstraintValidatorFactory()
+		);
+		CountingConstraintValidator.resetCounts();
+
+		ValidatorFactory validatorFactory = configuration.constraintValidatorFactory( constraintValidatorFactory )
+				.buildValidatorFactory();
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+
+		try {
+			Validator validator = validatorFactory.getValidator();
+
+			validate( validator, executor, threadCount, WARMUP_VALIDATION_COUNT );
+			int getInstanceCount = constraintValidatorFactory.getGetInstanceCount();
+			int initializeCount = CountingConstraintValidator.getInitializeCount();
+
+			validate( validator, executor, threadCount, VALIDATION_COUNT );
+
+			log.info( String.format( "%d thread(s), %,d validations: %.2f getInstance() and %.2f initialize() calls per constraint declaration",
+					threadCount, threadCount * ( WARMUP_VALIDATION_COUNT + VALIDATION_COUNT ),
+					(double) constraintValidatorFactory.getGetInstanceCount() / DECLARATION_COUNT,
+					(double) CountingConstraintValidator.getInitializeCount() / DECLARATION_COUNT ) );
+
+			assertEquals(
+					CountingConstraintValidator.getIsValidCount(),
+					threadCount * ( WARMUP_VALIDATION_COUNT + VALIDATION_COUNT ) * DECLARATION_COUNT,
+					"isValid() should have been called once per constraint declaration and validation"
+			);
+			assertEquals(
+					constraintValidatorFactory.getGetInstanceCount(),
+					getInstanceCount,
+					"The number of getInstance() calls should not grow with the number of validations"
+			);
+			assertEquals(
+					CountingConstraintValidator.getInitializeCount(),
+					initializeCount,
+					"The number of initialize() calls should not grow with the number of validations"
+			);
+		}
+		finally {
+			executor.shutdownNow();
+			validatorFactory.close();
+		}
+	}
+
+	private static void validate(Validator validator, ExecutorService executor, int threadCount, int validationCount) throws Exception {
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for ( int i = 0; i < threadCount; i++ ) {
+			tasks.add( () -> {
+				for ( int j = 0; j < validationCount; j++ ) {
+					validator.validate( new Measurements( j ) );
+				}
+				return null;
+			} );
+		}
+
+		for ( Future<Void> result : executor.invokeAll( tasks ) ) {
+			result.get();
+		}
+	}
+
+	private static class Measurements {
+
+		@CountingConstraint
+		private final Integer temperature;
+
+		@CountingConstraint
+		private final Integer pressure;
+
+		@CountingConstraint
+		private final Integer humidity;
+
+		private Measurements(int value) {
+			this.temperature = value;
+			this.pressure = value;
+			this.humidity = value;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.validatorfactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The validator of {@link CountingConstraint}, counting the calls of {@code initialize()} and {@code isValid()} of all
+ * its instances.
+ */
+public class CountingConstraintValidator implements ConstraintValidator<CountingConstraint, Integer> {
+
+	private static final AtomicInteger INITIALIZE_COUNT = new AtomicInteger();
+
+	private static final AtomicInteger IS_VALID_COUNT = new AtomicInteger();
+
+	public static int getInitializeCount() {
+		return INITIALIZE_COUNT.get();
+	}
+
+	public static int getIsValidCount() {
+		return IS_VALID_COUNT.get();
+	}
+
+	public static void resetCounts() {
+		INITIALIZE_COUNT.set( 0 );
+		IS_VALID_COUNT.set( 0 );
+	}
+
+	@Override
+	public void initialize(CountingConstraint constraintAnnotation) {
+		INITIALIZE_COUNT.incrementAndGet();
+	}
+
+	@Override
+	public boolean isValid(Integer value, ConstraintValidatorContext constraintValidatorContext) {
+		IS_VALID_COUNT.incrementAndGet();
+		return true;
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.validatorfactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+
+/**
+ * A constraint validator factory counting its calls for {@link CountingConstraintValidator} and delegating to the
+ * given factory for the other validators.
+ */
+public class CountingConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+	private final ConstraintValidatorFactory delegate;
+
+	private final AtomicInteger getInstanceCount = new AtomicInteger();
+
+	private final AtomicInteger releaseInstanceCount = new AtomicInteger();
+
+	public CountingConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+		if ( key != CountingConstraintValidator.class ) {
+			return delegate.getInstance( key );
+		}
+
+		getInstanceCount.incrementAndGet();
+		return key.cast( new CountingConstraintValidator() );
+	}
+
+	@Override
+	public void releaseInstance(ConstraintValidator<?, ?> instance) {
+		if ( !( instance instanceof CountingConstraintValidator ) ) {
+			delegate.releaseInstance( instance );
+			return;
+		}
+
+		releaseInstanceCount.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of {@link CountingConstraintValidator} instances requested.
+	 */
+	public int getGetInstanceCount() {
+		return getInstanceCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link CountingConstraintValidator} instances released.
+	 */
+	public int getReleaseInstanceCount() {
+		return releaseInstanceCount.get();
+	}
+}
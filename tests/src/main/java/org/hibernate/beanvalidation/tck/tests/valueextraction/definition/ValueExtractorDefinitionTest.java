@@ -37,6 +37,7 @@ import org.hibernate.beanvalidation.tck.tests.valueextraction.definition.model.N
 import org.hibernate.beanvalidation.tck.tests.valueextraction.definition.model.Order;
 import org.hibernate.beanvalidation.tck.tests.valueextraction.definition.model.RetailOrder;
 import org.hibernate.beanvalidation.tck.tests.valueextraction.definition.model.ValueContainerValueExtractor;
+import org.hibernate.beanvalidation.tck.util.ExclusiveTest;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 import org.jboss.test.audit.annotations.SpecAssertion;
@@ -47,6 +48,7 @@ import org.testng.annotations.Test;
  * @author Guillaume Smet
  */
 @SpecVersion(spec = "beanvalidation", version = "2.0.0")
+@ExclusiveTest
 public class ValueExtractorDefinitionTest extends AbstractTCKTest {
 
 	@Deployment
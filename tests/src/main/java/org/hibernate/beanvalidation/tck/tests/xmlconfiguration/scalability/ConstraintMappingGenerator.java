@@ -0,0 +1,75 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.xmlconfiguration.scalability;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes {@code constraint-mappings} documents describing the synthetic beans of a {@link SyntheticBeanClassLoader}.
+ * <p>
+ * Each bean is described by a {@code bean} entry with a {@code field} entry per field and a {@code getter} entry per
+ * getter; each field is constrained with {@code @NotNull} and each getter with {@code @Size(min = 1, max = 255)}.
+ */
+public class ConstraintMappingGenerator {
+
+	private final int fieldsPerBean;
+
+	private final int gettersPerBean;
+
+	public ConstraintMappingGenerator(int fieldsPerBean, int gettersPerBean) {
+		this.fieldsPerBean = fieldsPerBean;
+		this.gettersPerBean = gettersPerBean;
+	}
+
+	/**
+	 * Returns the number of {@code bean}, {@code field} and {@code getter} entries describing one bean.
+	 */
+	public int getEntriesPerBean() {
+		return 1 + fieldsPerBean + gettersPerBean;
+	}
+
+	/**
+	 * Writes a document describing the beans {@code Bean0} to {@code Bean<beanCount - 1>}.
+	 */
+	public void write(int beanCount, OutputStream outputStream) throws IOException {
+		Writer out = new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 );
+
+		out.write( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" );
+		out.write( "<constraint-mappings\n" );
+		out.write( "        xmlns=\"http://xmlns.jcp.org/xml/ns/validation/mapping\"\n" );
+		out.write( "        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" );
+		out.write( "        xsi:schemaLocation=\"http://xmlns.jcp.org/xml/ns/validation/mapping\n" );
+		out.write( "            http://xmlns.jcp.org/xml/ns/validation/mapping/validation-mapping-2.0.xsd\"\n" );
+		out.write( "        version=\"2.0\">\n" );
+		out.write( "    <default-package>" + SyntheticBeanClassLoader.PACKAGE + "</default-package>\n" );
+
+		for ( int bean = 0; bean < beanCount; bean++ ) {
+			out.write( "    <bean class=\"" + SyntheticBeanClassLoader.getSimpleClassName( bean ) + "\" ignore-annotations=\"true\">\n" );
+			for ( int field = 0; field < fieldsPerBean; field++ ) {
+				out.write( "        <field name=\"" + SyntheticBeanClassLoader.getFieldName( field ) + "\">\n" );
+				out.write( "            <constraint annotation=\"javax.validation.constraints.NotNull\"/>\n" );
+				out.write( "        </field>\n" );
+			}
+			for ( int getter = 0; getter < gettersPerBean; getter++ ) {
+				out.write( "        <getter name=\"" + SyntheticBeanClassLoader.getPropertyName( getter ) + "\">\n" );
+				out.write( "            <constraint annotation=\"javax.validation.constraints.Size\">\n" );
+				out.write( "                <element name=\"min\">1</element>\n" );
+				out.write( "                <element name=\"max\">255</element>\n" );
+				out.write( "            </constraint>\n" );
+				out.write( "        </getter>\n" );
+			}
+			out.write( "    </bean>\n" );
+		}
+
+		out.write( "</constraint-mappings>\n" );
+		out.flush();
+	}
+}
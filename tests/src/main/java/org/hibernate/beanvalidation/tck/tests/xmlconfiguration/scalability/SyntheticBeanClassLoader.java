@@ -0,0 +1,193 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.xmlconfiguration.scalability;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class loader defining on demand the synthetic beans referenced by the documents of the
+ * {@link ConstraintMappingGenerator}.
+ * <p>
+ * A synthetic bean is a public class of the package {@link #PACKAGE} named {@code Bean<n>}, with the private
+ * {@code String} fields {@code field0} to {@code field<f - 1>} and the public getters {@code getProperty0()} to
+ * {@code getProperty<g - 1>()} returning {@code null}. The class files are written directly as no bytecode library is
+ * available to the TCK.
+ */
+public class SyntheticBeanClassLoader extends ClassLoader {
+
+	public static final String PACKAGE = "org.hibernate.beanvalidation.tck.tests.xmlconfiguration.scalability.generated";
+
+	private static final String CLASS_NAME_PREFIX = PACKAGE + ".Bean";
+
+	private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+	// Java 8, no stack map frames are required as the getters have no branches
+	private static final int CLASS_FILE_MAJOR_VERSION = 52;
+
+	private static final int ACC_PUBLIC = 0x0001;
+
+	private static final int ACC_PRIVATE = 0x0002;
+
+	private static final int ACC_SUPER = 0x0020;
+
+	private static final int CONSTANT_UTF8 = 1;
+
+	private static final int CONSTANT_CLASS = 7;
+
+	private static final int ACONST_NULL = 0x01;
+
+	private static final int ARETURN = 0xB0;
+
+	private static final String STRING_DESCRIPTOR = "Ljava/lang/String;";
+
+	private final int fieldsPerBean;
+
+	private final int gettersPerBean;
+
+	public SyntheticBeanClassLoader(ClassLoader parent, int fieldsPerBean, int gettersPerBean) {
+		super( parent );
+		this.fieldsPerBean = fieldsPerBean;
+		this.gettersPerBean = gettersPerBean;
+	}
+
+	public static String getSimpleClassName(int index) {
+		return "Bean" + index;
+	}
+
+	public static String getFieldName(int index) {
+		return "field" + index;
+	}
+
+	public static String getPropertyName(int index) {
+		return "property" + index;
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		if ( !name.startsWith( CLASS_NAME_PREFIX ) ) {
+			throw new ClassNotFoundException( name );
+		}
+
+		try {
+			byte[] classFile = writeClassFile( name.replace( '.', '/' ) );
+			return defineClass( name, classFile, 0, classFile.length );
+		}
+		catch (IOException e) {
+			throw new ClassNotFoundException( name, e );
+		}
+	}
+
+	private byte[] writeClassFile(String internalName) throws IOException {
+		ConstantPool constantPool = new ConstantPool();
+		int thisClass = constantPool.classInfo( internalName );
+		int superClass = constantPool.classInfo( "java/lang/Object" );
+		int stringDescriptor = constantPool.utf8( STRING_DESCRIPTOR );
+		int getterDescriptor = constantPool.utf8( "()" + STRING_DESCRIPTOR );
+		int code = constantPool.utf8( "Code" );
+
+		int[] fieldNames = new int[fieldsPerBean];
+		for ( int i = 0; i < fieldsPerBean; i++ ) {
+			fieldNames[i] = constantPool.utf8( getFieldName( i ) );
+		}
+		int[] getterNames = new int[gettersPerBean];
+		for ( int i = 0; i < gettersPerBean; i++ ) {
+			String propertyName = getPropertyName( i );
+			getterNames[i] = constantPool.utf8( "get" + Character.toUpperCase( propertyName.charAt( 0 ) ) + propertyName.substring( 1 ) );
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream( bytes );
+
+		out.writeInt( CLASS_FILE_MAGIC );
+		out.writeShort( 0 );
+		out.writeShort( CLASS_FILE_MAJOR_VERSION );
+		constantPool.write( out );
+		out.writeShort( ACC_PUBLIC | ACC_SUPER );
+		out.writeShort( thisClass );
+		out.writeShort( superClass );
+		// interfaces
+		out.writeShort( 0 );
+
+		out.writeShort( fieldsPerBean );
+		for ( int fieldName : fieldNames ) {
+			out.writeShort( ACC_PRIVATE );
+			out.writeShort( fieldName );
+			out.writeShort( stringDescriptor );
+			// attributes
+			out.writeShort( 0 );
+		}
+
+		out.writeShort( gettersPerBean );
+		for ( int getterName : getterNames ) {
+			out.writeShort( ACC_PUBLIC );
+			out.writeShort( getterName );
+			out.writeShort( getterDescriptor );
+			out.writeShort( 1 );
+
+			// Code attribute: max stack, max locals, code, no exception table, no attributes
+			out.writeShort( code );
+			out.writeInt( 14 );
+			out.writeShort( 1 );
+			out.writeShort( 1 );
+			out.writeInt( 2 );
+			out.writeByte( ACONST_NULL );
+			out.writeByte( ARETURN );
+			out.writeShort( 0 );
+			out.writeShort( 0 );
+		}
+
+		// attributes
+		out.writeShort( 0 );
+
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static class ConstantPool {
+
+		private final List<byte[]> entries = new ArrayList<>();
+
+		private final Map<String, Integer> utf8Indexes = new HashMap<>();
+
+		private int utf8(String value) throws IOException {
+			Integer index = utf8Indexes.get( value );
+			if ( index == null ) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream( bytes );
+				out.writeByte( CONSTANT_UTF8 );
+				out.writeUTF( value );
+				index = add( bytes.toByteArray() );
+				utf8Indexes.put( value, index );
+			}
+			return index;
+		}
+
+		private int classInfo(String internalName) throws IOException {
+			int nameIndex = utf8( internalName );
+			return add( new byte[] { CONSTANT_CLASS, (byte) ( nameIndex >> 8 ), (byte) nameIndex } );
+		}
+
+		private int add(byte[] entry) {
+			entries.add( entry );
+			// the indexes of the constant pool start at 1
+			return entries.size();
+		}
+
+		private void write(DataOutputStream out) throws IOException {
+			out.writeShort( entries.size() + 1 );
+			for ( byte[] entry : entries ) {
+				out.write( entry );
+			}
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.tests.xmlconfiguration.scalability;
+
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.logging.Logger;
+
+import javax.validation.Configuration;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.beanvalidation.tck.tests.AbstractTCKTest;
+import org.hibernate.beanvalidation.tck.util.HeapUsage;
+import org.hibernate.beanvalidation.tck.util.StressTest;
+import org.hibernate.beanvalidation.tck.util.TestUtil;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Loads generated constraint mapping documents of 1k, 10k and 100k {@code bean}, {@code field} and {@code getter}
+ * entries through {@link Configuration#addMapping(java.io.InputStream)} and checks that the time needed to build the
+ * validator factory grows linearly with the size of the document.
+ * <p>
+ * For each size, the parse time, the peak heap and the heap retained by the validator factory are logged. The time of
+ * a size may be at most <i>xmlMappingScalabilityTolerance</i> (3 by default) times the time of the previous size
+ * multiplied by the size ratio.
+ */
+@StressTest
+public class XmlMappingScalabilityTest extends AbstractTCKTest {
+
+	private static final Logger log = Logger.getLogger( XmlMappingScalabilityTest.class.getName() );
+
+	/**
+	 * Name of the system property for configuring the tolerated deviation from a linear growth.
+	 */
+	private static final String TOLERANCE = "xmlMappingScalabilityTolerance";
+
+	private static final int[] ENTRY_COUNTS = { 1_000, 10_000, 100_000 };
+
+	private static final int FIELDS_PER_BEAN = 4;
+
+	private static final int GETTERS_PER_BEAN = 5;
+
+	private static final int RUNS = 3;
+
+	private final ConstraintMappingGenerator generator = new ConstraintMappingGenerator( FIELDS_PER_BEAN, GETTERS_PER_BEAN );
+
+	@Deployment
+	public static WebArchive createTestArchive() {
+		return webArchiveBuilder()
+				.withTestClassPackage( XmlMappingScalabilityTest.class )
+				.build();
+	}
+
+	@Test
+	public void testParseTimeGrowsLinearlyWithMappingSize() throws Exception {
+		double tolerance = Double.parseDouble( System.getProperty( TOLERANCE, "3" ) );
+
+		// warm up the XML parsing of the provider
+		measure( ENTRY_COUNTS[0] );
+
+		long[] parseTimes = new long[ENTRY_COUNTS.length];
+		for ( int i = 0; i < ENTRY_COUNTS.length; i++ ) {
+			parseTimes[i] = measure( ENTRY_COUNTS[i] );
+		}
+
+		for ( int i = 1; i < ENTRY_COUNTS.length; i++ ) {
+			double sizeRatio = (double) ENTRY_COUNTS[i] / ENTRY_COUNTS[i - 1];
+			double timeRatio = (double) parseTimes[i] / parseTimes[i - 1];
+			assertTrue(
+					timeRatio <= sizeRatio * tolerance,
+					"Parsing " + ENTRY_COUNTS[i] + " entries took " + timeRatio + " times as long as parsing "
+							+ ENTRY_COUNTS[i - 1] + " entries, for a document " + sizeRatio + " times larger"
+			);
+		}
+	}
+
+	/**
+	 * Builds a validator factory from a document of the given number of entries several times and returns the
+	 * shortest time, in nanoseconds.
+	 */
+	private long measure(int entryCount) throws Exception {
+		int beanCount = entryCount / generator.getEntriesPerBean();
+		ByteArrayOutputStream document = new ByteArrayOutputStream();
+		generator.write( beanCount, document );
+
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		ClassLoader classLoader = new SyntheticBeanClassLoader( originalClassLoader, FIELDS_PER_BEAN, GETTERS_PER_BEAN );
+		thread.setContextClassLoader( classLoader );
+
+		try {
+			long minimumParseTime = Long.MAX_VALUE;
+			long peakHeap = 0;
+			long retainedHeap = 0;
+
+			for ( int run = 0; run < RUNS; run++ ) {
+				long baselineHeap = HeapUsage.getUsedHeapAfterGc();
+				HeapUsage.resetPeakHeap();
+
+				long start = System.nanoTime();
+				Configuration<?> configuration = TestUtil.getConfigurationUnderTest();
+				configuration.addMapping( new ByteArrayInputStream( document.toByteArray() ) );
+				ValidatorFactory validatorFactory = configuration.buildValidatorFactory();
+				long parseTime = System.nanoTime() - start;
+
+				try {
+					peakHeap = Math.max( peakHeap, HeapUsage.getPeakHeap() - baselineHeap );
+					retainedHeap = Math.max( retainedHeap, HeapUsage.getUsedHeapAfterGc() - baselineHeap );
+					minimumParseTime = Math.min( minimumParseTime, parseTime );
+
+					Class<?> lastBean = classLoader.loadClass(
+							SyntheticBeanClassLoader.PACKAGE + "." + SyntheticBeanClassLoader.getSimpleClassName( beanCount - 1 ) );
+					assertTrue( validatorFactory.getValidator().getConstraintsForClass( lastBean ).isBeanConstrained(),
+							"The constraints of " + lastBean.getName() + " declared in XML should be applied" );
+				}
+				finally {
+					validatorFactory.close();
+				}
+			}
+
+			log.info( String.format( "%,d entries (%,d bytes): parse time %,d µs, peak heap %,d KB, retained heap %,d KB",
+					entryCount, document.size(), minimumParseTime / 1_000, peakHeap / 1_024, retainedHeap / 1_024 ) );
+
+			return minimumParseTime;
+		}
+		finally {
+			thread.setContextClassLoader( originalClassLoader );
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import org.testng.SkipException;
+
+/**
+ * Measures the bytes allocated by the current thread for one execution of an operation, once warmed up, and compares
+ * them with a baseline checked in next to the test.
+ * <p>
+ * The baseline is a properties file associating a budget key with the number of bytes allocated per execution by the
+ * reference implementation. A measurement fails when it exceeds the baseline by more than the relative tolerance given
+ * by the system property <i>allocationBudgetTolerance</i> (0.1, i.e. 10%, by default) plus
+ * {@link #ABSOLUTE_SLACK} bytes. The slack allows a zero baseline to absorb the noise of the measurement.
+ * <p>
+ * When the system property <i>allocationBudgetRecord</i> is set to a file, nothing is asserted: the measurements are
+ * written to this file, in the format of the baseline, so that they can be reviewed and checked in. Keys missing from
+ * the baseline are logged and not asserted.
+ * <p>
+ * A measurement can also be given an absolute maximum, asserted whatever the baseline, e.g. to check that an operation
+ * allocates close to nothing.
+ * <p>
+ * The allocated bytes are only exposed by some JVMs; if they are not, the calling test is skipped.
+ */
+public class AllocationBudget {
+
+	private static final Logger log = Logger.getLogger( AllocationBudget.class.getName() );
+
+	/**
+	 * Name of the system property for configuring the relative tolerance applied to the baseline.
+	 */
+	private static final String TOLERANCE = "allocationBudgetTolerance";
+
+	/**
+	 * Name of the system property for configuring the file the measurements are recorded to.
+	 */
+	private static final String RECORD = "allocationBudgetRecord";
+
+	/**
+	 * Name of the system property for configuring the number of executions before measuring.
+	 */
+	private static final String WARMUP_ITERATIONS = "allocationBudgetWarmupIterations";
+
+	/**
+	 * Name of the system property for configuring the number of executions of each measurement round.
+	 */
+	private static final String ITERATIONS = "allocationBudgetIterations";
+
+	/**
+	 * Number of bytes per execution tolerated on top of the relative tolerance.
+	 */
+	private static final long ABSOLUTE_SLACK = 16;
+
+	private static final int ROUNDS = 5;
+
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+	private final String baselineName;
+
+	private final Properties baseline;
+
+	private final double tolerance = Double.parseDouble( System.getProperty( TOLERANCE, "0.1" ) );
+
+	private final int warmupIterations = Integer.getInteger( WARMUP_ITERATIONS, 20_000 );
+
+	private final int iterations = Integer.getInteger( ITERATIONS, 10_000 );
+
+	private AllocationBudget(String baselineName, Properties baseline) {
+		this.baselineName = baselineName;
+		this.baseline = baseline;
+	}
+
+	/**
+	 * Loads the baseline with the given name, located in the package of the given class.
+	 */
+	public static AllocationBudget load(Class<?> clazz, String baselineName) {
+		Properties baseline = new Properties();
+		try ( InputStream in = clazz.getResourceAsStream( baselineName ) ) {
+			if ( in == null ) {
+				throw new IllegalArgumentException( "Unable to find the allocation baseline " + baselineName );
+			}
+			baseline.load( in );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to read the allocation baseline " + baselineName, e );
+		}
+		return new AllocationBudget( baselineName, baseline );
+	}
+
+	/**
+	 * Measures the bytes allocated by one execution of the given operation and asserts that they are within the
+	 * budget identified by the given key.
+	 */
+	public void assertWithinBudget(String key, Runnable operation) {
+		assertWithinBudget( key, Long.MAX_VALUE, operation );
+	}
+
+	/**
+	 * Measures the bytes allocated by one execution of the given operation and asserts that they are within the
+	 * budget identified by the given key and do not exceed the given maximum.
+	 */
+	public void assertWithinBudget(String key, long maximum, Runnable operation) {
+		if ( !ALLOCATED_BYTES_SUPPORTED ) {
+			throw new SkipException( "The JVM does not expose the bytes allocated by a thread" );
+		}
+
+		long allocatedBytes = measure( operation );
+
+		String recordFile = System.getProperty( RECORD );
+		if ( recordFile != null ) {
+			record( new File( recordFile ), key, allocatedBytes );
+			return;
+		}
+
+		assertTrue( allocatedBytes <= maximum, key + " allocated " + allocatedBytes + " bytes per execution, the maximum is "
+				+ maximum + " bytes" );
+
+		String expected = baseline.getProperty( key );
+		if ( expected == null ) {
+			log.warning( "No allocation baseline for " + key + " in " + baselineName + ", " + allocatedBytes
+					+ " bytes allocated per execution" );
+			return;
+		}
+
+		long budget = (long) ( Long.parseLong( expected.trim() ) * ( 1 + tolerance ) ) + ABSOLUTE_SLACK;
+		assertTrue( allocatedBytes <= budget, key + " allocated " + allocatedBytes + " bytes per execution, the budget is "
+				+ budget + " bytes (baseline " + expected.trim() + " bytes)" );
+	}
+
+	/**
+	 * Returns the minimum over several rounds of the bytes allocated per execution, the minimum filtering out the
+	 * allocations of the JVM itself (e.g. by the JIT compiler running on behalf of the thread).
+	 */
+	private long measure(Runnable operation) {
+		for ( int i = 0; i < warmupIterations; i++ ) {
+			operation.run();
+		}
+
+		long minimum = Long.MAX_VALUE;
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			long start = getAllocatedBytes();
+			for ( int i = 0; i < iterations; i++ ) {
+				operation.run();
+			}
+			minimum = Math.min( minimum, ( getAllocatedBytes() - start ) / iterations );
+		}
+		return minimum;
+	}
+
+	private static synchronized void record(File file, String key, long allocatedBytes) {
+		Properties recorded = new Properties();
+		if ( file.exists() ) {
+			try ( InputStream in = new FileInputStream( file ) ) {
+				recorded.load( in );
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( "Unable to read the allocation measurements from " + file, e );
+			}
+		}
+
+		recorded.setProperty( key, String.valueOf( allocatedBytes ) );
+
+		try ( OutputStream out = new FileOutputStream( file ) ) {
+			recorded.store( out, "Bytes allocated per execution" );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to record the allocation measurements to " + file, e );
+		}
+	}
+
+	private static long getAllocatedBytes() {
+		return ( (com.sun.management.ThreadMXBean) THREAD_MX_BEAN ).getThreadAllocatedBytes( Thread.currentThread().getId() );
+	}
+
+	private static boolean isAllocatedBytesSupported() {
+		// the allocated bytes are only exposed by some JVMs
+		try {
+			return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+					&& ( (com.sun.management.ThreadMXBean) THREAD_MX_BEAN ).isThreadAllocatedMemorySupported();
+		}
+		catch (LinkageError e) {
+			return false;
+		}
+	}
+}
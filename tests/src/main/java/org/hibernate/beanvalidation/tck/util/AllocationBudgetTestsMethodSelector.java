@@ -0,0 +1,44 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.List;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which will, depending on the system property <i>allocationBudget</i> and
+ * the existence of the {@code @AllocationBudgetTest} annotation on a test class, in- or exclude the test.
+ */
+public class AllocationBudgetTestsMethodSelector implements IMethodSelector {
+
+	/**
+	 * Name of the system property for including the allocation budget tests.
+	 */
+	private static final String ALLOCATION_BUDGET = "allocationBudget";
+
+	private static final boolean INCLUDE_ALLOCATION_BUDGET_TESTS = Boolean.getBoolean( ALLOCATION_BUDGET );
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( !INCLUDE_ALLOCATION_BUDGET_TESTS && method.getConstructorOrMethod().getDeclaringClass().isAnnotationPresent(
+				AllocationBudgetTest.class
+		) ) {
+			context.setStopped( true );
+			return false;
+		}
+		else {
+			return true;
+		}
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+}
@@ -7,14 +7,25 @@
 package org.hibernate.beanvalidation.tck.util;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
+import org.hibernate.beanvalidation.tck.util.shrinkwrap.ArchiveFingerprint;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
@@ -23,6 +34,13 @@ import org.jboss.shrinkwrap.api.exporter.ZipExporter;
  * This class builds the test artifacts and writes them to disk.
  *
  * The artifacts are just created for debugging purposes. They are not part of the TCK artifacts.
+ * <p>
+ * The export is incremental: the fingerprint of the content of each artifact is stored in
+ * {@code target/artifacts/fingerprints.properties} and an artifact is only exported again if its content has changed.
+ * The artifacts of the test classes which do not exist anymore are removed.
+ * <p>
+ * The artifacts are built and exported by a pool of threads whose size is given by the system property
+ * <i>artifactDumperThreadCount</i> and defaults to the number of available processors.
  *
  * @author Hardy Ferentschik
  */
@@ -30,6 +48,15 @@ public class ArtifactDumper {
 	private static Logger logger = Logger.getLogger( ArtifactDumper.class.getName() );
 	private static File artifactDir;
 
+	/**
+	 * Name of the system property for configuring the number of threads exporting the artifacts.
+	 */
+	private static final String THREAD_COUNT = "artifactDumperThreadCount";
+
+	private static final String FINGERPRINTS_FILE_NAME = "fingerprints.properties";
+
+	private static final String ARTIFACT_EXTENSION = ".war";
+
 	static {
 		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
 		// get a URL reference to something we now is part of the classpath (our own classes)
@@ -46,33 +73,93 @@ public class ArtifactDumper {
 		}
 
 		artifactDir = new File( targetDir, "artifacts" );
-		if ( artifactDir.exists() ) {
-			for ( File f : artifactDir.listFiles() ) {
-				delete( f );
-			}
-		}
-		else {
-
-			if ( !artifactDir.mkdirs() ) {
-				throw new RuntimeException( "Unable to create artifact dump directory: " + artifactDir.getPath() );
-			}
+		if ( !artifactDir.exists() && !artifactDir.mkdirs() ) {
+			throw new RuntimeException( "Unable to create artifact dump directory: " + artifactDir.getPath() );
 		}
 	}
 
 	public static void main(String[] args) throws Exception {
 		List<Class<?>> testClasses = getClassesForPackage( "org.hibernate.beanvalidation.tck" );
-		for ( Class<?> clazz : testClasses ) {
-			processClass( clazz );
+
+		File fingerprintsFile = new File( artifactDir, FINGERPRINTS_FILE_NAME );
+		Properties previousFingerprints = loadFingerprints( fingerprintsFile );
+		Properties fingerprints = new Properties();
+
+		int threadCount = Integer.getInteger( THREAD_COUNT, Runtime.getRuntime().availableProcessors() );
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			List<Future<Integer>> exports = new ArrayList<>();
+			for ( Class<?> clazz : testClasses ) {
+				exports.add( executor.submit( () -> processClass( clazz, previousFingerprints, fingerprints ) ) );
+			}
+
+			int exported = 0;
+			for ( Future<Integer> export : exports ) {
+				exported += export.get();
+			}
+			logger.info( "Exported " + exported + " artifacts, " + ( fingerprints.size() - exported ) + " were up to date" );
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			else if ( cause instanceof Exception ) {
+				throw (Exception) cause;
+			}
+			else {
+				throw new RuntimeException( cause );
+			}
+		}
+		finally {
+			executor.shutdownNow();
 		}
+
+		deleteStaleArtifacts( fingerprints );
+		saveFingerprints( fingerprintsFile, fingerprints );
 	}
 
-	private static void processClass(Class<?> clazz) throws Exception {
+	private static int processClass(Class<?> clazz, Properties previousFingerprints, Properties fingerprints) throws Exception {
+		int exported = 0;
 		for ( Method m : clazz.getMethods() ) {
 			if ( m.isAnnotationPresent( Deployment.class ) ) {
 				Object o = clazz.newInstance();
 				Archive<?> archive = (Archive<?>) m.invoke( o );
 				logger.fine( archive.toString( true ) );
-				archive.as( ZipExporter.class ).exportTo( new File( artifactDir, clazz.getName() + ".war" ), true );
+
+				String artifactName = clazz.getName() + ARTIFACT_EXTENSION;
+				File artifact = new File( artifactDir, artifactName );
+				String fingerprint = ArchiveFingerprint.of( archive );
+				if ( !artifact.isFile() || !fingerprint.equals( previousFingerprints.getProperty( artifactName ) ) ) {
+					archive.as( ZipExporter.class ).exportTo( artifact, true );
+					exported++;
+				}
+				fingerprints.setProperty( artifactName, fingerprint );
+			}
+		}
+		return exported;
+	}
+
+	private static Properties loadFingerprints(File fingerprintsFile) throws IOException {
+		Properties fingerprints = new Properties();
+		if ( fingerprintsFile.isFile() ) {
+			try ( InputStream in = new FileInputStream( fingerprintsFile ) ) {
+				fingerprints.load( in );
+			}
+		}
+		return fingerprints;
+	}
+
+	private static void saveFingerprints(File fingerprintsFile, Properties fingerprints) throws IOException {
+		try ( OutputStream out = new FileOutputStream( fingerprintsFile ) ) {
+			fingerprints.store( out, "Fingerprints of the content of the exported artifacts" );
+		}
+	}
+
+	private static void deleteStaleArtifacts(Properties fingerprints) {
+		for ( File f : artifactDir.listFiles() ) {
+			if ( !FINGERPRINTS_FILE_NAME.equals( f.getName() ) && !fingerprints.containsKey( f.getName() ) ) {
+				delete( f );
 			}
 		}
 	}
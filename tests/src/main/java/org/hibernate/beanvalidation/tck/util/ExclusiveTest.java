@@ -0,0 +1,27 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class altering state shared by the whole JVM (e.g. the default locale or static fields of test
+ * fixtures used by other classes). When the tests are run in parallel, such a class is never executed concurrently
+ * with another test class.
+ *
+ * @see ParallelExecutionSuiteListener
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface ExclusiveTest {
+}
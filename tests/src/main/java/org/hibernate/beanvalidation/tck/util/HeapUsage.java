@@ -0,0 +1,63 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Reads the heap usage and the garbage collection time of the JVM for the {@link StressTest}s.
+ */
+public final class HeapUsage {
+
+	private HeapUsage() {
+	}
+
+	/**
+	 * Returns the used heap after having requested a garbage collection.
+	 */
+	public static long getUsedHeapAfterGc() {
+		System.gc();
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	public static void resetPeakHeap() {
+		for ( MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans() ) {
+			if ( memoryPool.getType() == MemoryType.HEAP ) {
+				memoryPool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * Returns the sum of the peak usages of the heap pools since the last {@link #resetPeakHeap()}; the pools do not
+	 * peak at the same time so this is an upper bound of the actual peak.
+	 */
+	public static long getPeakHeap() {
+		long peakHeap = 0;
+		for ( MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans() ) {
+			if ( memoryPool.getType() == MemoryType.HEAP ) {
+				peakHeap += memoryPool.getPeakUsage().getUsed();
+			}
+		}
+		return peakHeap;
+	}
+
+	/**
+	 * Returns the accumulated time spent by the garbage collectors since the start of the JVM, in milliseconds, or
+	 * {@code 0} if the collectors do not expose it.
+	 */
+	public static long getGcTime() {
+		long gcTime = 0;
+		for ( GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans() ) {
+			gcTime += Math.max( 0, garbageCollector.getCollectionTime() );
+		}
+		return gcTime;
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jboss.arquillian.test.spi.LifecycleMethodExecutor;
+import org.jboss.arquillian.test.spi.TestMethodExecutor;
+import org.jboss.arquillian.test.spi.TestResult;
+import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
+import org.jboss.arquillian.test.spi.TestRunnerAdaptorBuilder;
+import org.jboss.arquillian.test.spi.event.suite.TestLifecycleEvent;
+
+/**
+ * Makes it possible to run the test classes in parallel (see {@link ParallelExecutionSuiteListener}):
+ * <ul>
+ * <li>a single Arquillian test runner adaptor is registered via {@link TestRunnerAdaptorBuilder#set(TestRunnerAdaptor)}
+ * for the suite, so that the threads executing the test classes all use the adaptor started by the thread starting the
+ * suite,</li>
+ * <li>test classes annotated with {@link ExclusiveTest} are not executed concurrently with any other test class.</li>
+ * </ul>
+ * When the test classes are executed serially, this class has no effect.
+ */
+public final class ParallelExecutionHelper {
+
+	/**
+	 * Name of the system property for running the test classes in parallel.
+	 */
+	private static final String PARALLEL_TESTS = "parallelTests";
+
+	/**
+	 * Test classes hold the read lock during their execution, exclusive test classes hold the write lock.
+	 */
+	private static final ReentrantReadWriteLock EXECUTION_LOCK = new ReentrantReadWriteLock( true );
+
+	private ParallelExecutionHelper() {
+	}
+
+	public static boolean isEnabled() {
+		return Boolean.getBoolean( PARALLEL_TESTS );
+	}
+
+	/**
+	 * To be called by the thread starting the suite, before the Arquillian test runner adaptor is built.
+	 */
+	public static void suiteStarting() {
+		if ( isEnabled() ) {
+			TestRunnerAdaptorBuilder.set( new SuiteTestRunnerAdaptor( TestRunnerAdaptorBuilder.build() ) );
+		}
+	}
+
+	/**
+	 * To be called by the thread finishing the suite, once the Arquillian test runner adaptor has been shut down.
+	 */
+	public static void suiteFinished() {
+		if ( isEnabled() ) {
+			TestRunnerAdaptorBuilder.set( null );
+		}
+	}
+
+	/**
+	 * To be called by the thread executing the given test class, before its deployment.
+	 *
+	 * @param testClass the test class about to be executed
+	 */
+	public static void beforeClass(Class<?> testClass) {
+		if ( testClass.isAnnotationPresent( ExclusiveTest.class ) ) {
+			EXECUTION_LOCK.writeLock().lock();
+		}
+		else {
+			EXECUTION_LOCK.readLock().lock();
+		}
+	}
+
+	/**
+	 * To be called by the thread having executed the given test class, after its undeployment.
+	 *
+	 * @param testClass the test class which has been executed
+	 */
+	public static void afterClass(Class<?> testClass) {
+		// the class might have been skipped before acquiring the lock
+		if ( testClass.isAnnotationPresent( ExclusiveTest.class ) ) {
+			if ( EXECUTION_LOCK.isWriteLockedByCurrentThread() ) {
+				EXECUTION_LOCK.writeLock().unlock();
+			}
+		}
+		else if ( EXECUTION_LOCK.getReadHoldCount() > 0 ) {
+			EXECUTION_LOCK.readLock().unlock();
+		}
+	}
+
+	/**
+	 * The test runner adaptor shared by all the threads of the suite. Arquillian starts the suite once per thread, only
+	 * the first start is passed on to the actual adaptor.
+	 */
+	private static class SuiteTestRunnerAdaptor implements TestRunnerAdaptor {
+
+		private final TestRunnerAdaptor delegate;
+
+		private final AtomicBoolean suiteStarted = new AtomicBoolean();
+
+		private SuiteTestRunnerAdaptor(TestRunnerAdaptor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void beforeSuite() throws Exception {
+			if ( suiteStarted.compareAndSet( false, true ) ) {
+				delegate.beforeSuite();
+			}
+		}
+
+		@Override
+		public void afterSuite() throws Exception {
+			delegate.afterSuite();
+		}
+
+		@Override
+		public void beforeClass(Class<?> testClass, LifecycleMethodExecutor executor) throws Exception {
+			delegate.beforeClass( testClass, executor );
+		}
+
+		@Override
+		public void afterClass(Class<?> testClass, LifecycleMethodExecutor executor) throws Exception {
+			delegate.afterClass( testClass, executor );
+		}
+
+		@Override
+		public void before(Object testInstance, Method testMethod, LifecycleMethodExecutor executor) throws Exception {
+			delegate.before( testInstance, testMethod, executor );
+		}
+
+		@Override
+		public void after(Object testInstance, Method testMethod, LifecycleMethodExecutor executor) throws Exception {
+			delegate.after( testInstance, testMethod, executor );
+		}
+
+		@Override
+		public TestResult test(TestMethodExecutor testMethodExecutor) throws Exception {
+			return delegate.test( testMethodExecutor );
+		}
+
+		@Override
+		public <T extends TestLifecycleEvent> void fireCustomLifecycle(T event) throws Exception {
+			delegate.fireCustomLifecycle( event );
+		}
+
+		@Override
+		public void shutdown() {
+			delegate.shutdown();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.logging.Logger;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * TestNG suite listener which will, depending on the system property <i>parallelTests</i>, run the test classes of the
+ * suite in parallel.
+ * <p>
+ * The number of threads is given by the system property <i>threadCount</i> and defaults to the number of available
+ * processors. Test classes annotated with {@link ExclusiveTest} are executed on their own.
+ */
+public class ParallelExecutionSuiteListener implements ISuiteListener {
+
+	private static final Logger log = Logger.getLogger( ParallelExecutionSuiteListener.class.getName() );
+
+	/**
+	 * Name of the system property for configuring the number of threads used to run the tests in parallel.
+	 */
+	private static final String THREAD_COUNT = "threadCount";
+
+	@Override
+	public void onStart(ISuite suite) {
+		if ( !ParallelExecutionHelper.isEnabled() ) {
+			return;
+		}
+
+		int threadCount = Integer.getInteger( THREAD_COUNT, Runtime.getRuntime().availableProcessors() );
+		if ( threadCount < 1 ) {
+			throw new IllegalArgumentException( "The system property " + THREAD_COUNT + " must be strictly positive: " + threadCount );
+		}
+
+		// the tests read these settings when they start, after the suite listeners have been notified
+		for ( XmlTest test : suite.getXmlSuite().getTests() ) {
+			test.setParallel( XmlSuite.ParallelMode.CLASSES );
+			test.setThreadCount( threadCount );
+		}
+
+		log.info( "Running the test classes of " + suite.getName() + " in parallel using " + threadCount + " threads" );
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+	}
+}
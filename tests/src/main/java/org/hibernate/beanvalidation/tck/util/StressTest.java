@@ -0,0 +1,26 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class checking how the provider behaves with very large inputs. Such a class is not a conformance test
+ * and is only executed when the system property <i>stressTests</i> is set to {@code true}.
+ *
+ * @see StressTestsMethodSelector
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface StressTest {
+}
@@ -0,0 +1,44 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.util.List;
+
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * TestNG test selector which will, depending on the system property <i>stressTests</i> and
+ * the existence of the {@code @StressTest} annotation on a test class, in- or exclude the test.
+ */
+public class StressTestsMethodSelector implements IMethodSelector {
+
+	/**
+	 * Name of the system property for including the stress tests.
+	 */
+	private static final String STRESS_TESTS = "stressTests";
+
+	private static final boolean INCLUDE_STRESS_TESTS = Boolean.getBoolean( STRESS_TESTS );
+
+	@Override
+	public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+		if ( !INCLUDE_STRESS_TESTS && method.getConstructorOrMethod().getDeclaringClass().isAnnotationPresent(
+				StressTest.class
+		) ) {
+			context.setStopped( true );
+			return false;
+		}
+		else {
+			return true;
+		}
+	}
+
+	@Override
+	public void setTestMethods(List<ITestNGMethod> testMethods) {
+	}
+}
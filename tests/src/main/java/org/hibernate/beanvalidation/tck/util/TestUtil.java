@@ -57,9 +57,17 @@ public final class TestUtil {
 		return validationProviderUnderTest;
 	}
 
+	/**
+	 * Returns a validator factory of the provider under test, bootstrapped with the default configuration.
+	 * <p>
+	 * If the {@link ValidatorFactoryPool} is enabled, the factory may be shared with other callers and must not be
+	 * closed.
+	 */
 	public static ValidatorFactory getValidatorFactoryUnderTest() {
-		Configuration<?> config = getConfigurationUnderTest();
-		return config.buildValidatorFactory();
+		if ( ValidatorFactoryPool.isEnabled() ) {
+			return ValidatorFactoryPool.getValidatorFactory( TestUtil::buildValidatorFactoryUnderTest );
+		}
+		return buildValidatorFactoryUnderTest();
 	}
 
 	public static Configuration<?> getConfigurationUnderTest() {
@@ -187,6 +195,11 @@ public final class TestUtil {
 				validationGroups );
 	}
 
+	private static ValidatorFactory buildValidatorFactoryUnderTest() {
+		Configuration<?> config = getConfigurationUnderTest();
+		return config.buildValidatorFactory();
+	}
+
 	private static <U extends ValidationProvider<?>> void instantiateValidationProviderUnderTest() {
 		String validatorProviderClassName = System.getProperty( VALIDATION_PROVIDER_TEST_CLASS );
 		if ( validatorProviderClassName == null ) {
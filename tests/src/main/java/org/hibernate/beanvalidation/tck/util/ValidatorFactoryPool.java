@@ -0,0 +1,260 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.ParameterNameProvider;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+import javax.validation.ValidatorContext;
+import javax.validation.ValidatorFactory;
+
+/**
+ * Pool of the validator factories returned by {@link TestUtil#getValidatorFactoryUnderTest()}.
+ * <p>
+ * The pool is enabled by setting the system property <i>validatorFactoryPool</i> to {@code true}. Validator factories
+ * are then shared by all the calls made with the same effective configuration, i.e. the same context class loader
+ * (which is specific to a deployment), the same {@code META-INF/validation.xml} and the same default locale. They are
+ * closed once the test class having deployed them is undeployed (see {@link #release(ClassLoader)}).
+ * <p>
+ * The factories handed out ignore {@link ValidatorFactory#close()}, they are only closed by the pool.
+ */
+public final class ValidatorFactoryPool {
+
+	private static final Logger log = Logger.getLogger( ValidatorFactoryPool.class.getName() );
+
+	/**
+	 * Name of the system property for enabling the validator factory pool.
+	 */
+	private static final String VALIDATOR_FACTORY_POOL = "validatorFactoryPool";
+
+	private static final String VALIDATION_XML = "META-INF/validation.xml";
+
+	private static final boolean ENABLED = Boolean.getBoolean( VALIDATOR_FACTORY_POOL );
+
+	private static final ConcurrentMap<Key, PooledValidatorFactory> FACTORIES = new ConcurrentHashMap<>();
+
+	private static final AtomicLong BOOTSTRAPS = new AtomicLong();
+
+	private static final AtomicLong AVOIDED_BOOTSTRAPS = new AtomicLong();
+
+	private ValidatorFactoryPool() {
+	}
+
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Returns the pooled validator factory for the current configuration, bootstrapping it if needed.
+	 *
+	 * @param bootstrap bootstraps a new validator factory
+	 *
+	 * @return the validator factory for the current configuration
+	 */
+	static ValidatorFactory getValidatorFactory(Supplier<ValidatorFactory> bootstrap) {
+		Key key = Key.forCurrentThread();
+
+		PooledValidatorFactory validatorFactory = FACTORIES.get( key );
+		if ( validatorFactory != null ) {
+			AVOIDED_BOOTSTRAPS.incrementAndGet();
+			return validatorFactory;
+		}
+
+		// bootstrap failures are not cached, they are expected to happen again on the next call
+		PooledValidatorFactory newValidatorFactory = new PooledValidatorFactory( bootstrap.get() );
+		BOOTSTRAPS.incrementAndGet();
+
+		validatorFactory = FACTORIES.putIfAbsent( key, newValidatorFactory );
+		if ( validatorFactory != null ) {
+			close( newValidatorFactory );
+			return validatorFactory;
+		}
+		return newValidatorFactory;
+	}
+
+	/**
+	 * Closes the validator factories bootstrapped with the given context class loader.
+	 *
+	 * @param contextClassLoader the context class loader of an undeployed archive
+	 */
+	public static void release(ClassLoader contextClassLoader) {
+		Iterator<Map.Entry<Key, PooledValidatorFactory>> entries = FACTORIES.entrySet().iterator();
+		while ( entries.hasNext() ) {
+			Map.Entry<Key, PooledValidatorFactory> entry = entries.next();
+			if ( entry.getKey().contextClassLoader == contextClassLoader ) {
+				entries.remove();
+				close( entry.getValue() );
+			}
+		}
+	}
+
+	/**
+	 * Closes all the pooled validator factories and reports the number of bootstraps avoided so far.
+	 */
+	public static void releaseAll() {
+		Iterator<PooledValidatorFactory> validatorFactories = FACTORIES.values().iterator();
+		while ( validatorFactories.hasNext() ) {
+			PooledValidatorFactory validatorFactory = validatorFactories.next();
+			validatorFactories.remove();
+			close( validatorFactory );
+		}
+
+		log.info( "Validator factory pool: " + BOOTSTRAPS.get() + " validator factories bootstrapped, "
+				+ AVOIDED_BOOTSTRAPS.get() + " bootstraps avoided" );
+	}
+
+	private static void close(PooledValidatorFactory validatorFactory) {
+		try {
+			validatorFactory.delegate.close();
+		}
+		catch (RuntimeException e) {
+			log.log( Level.WARNING, "Unable to close validator factory " + validatorFactory, e );
+		}
+	}
+
+	private static final class Key {
+
+		private final ClassLoader contextClassLoader;
+
+		private final byte[] validationXmlDigest;
+
+		private final Locale defaultLocale;
+
+		private final int hashCode;
+
+		private Key(ClassLoader contextClassLoader, byte[] validationXmlDigest, Locale defaultLocale) {
+			this.contextClassLoader = contextClassLoader;
+			this.validationXmlDigest = validationXmlDigest;
+			this.defaultLocale = defaultLocale;
+			this.hashCode = 31 * ( 31 * System.identityHashCode( contextClassLoader ) + Arrays.hashCode( validationXmlDigest ) )
+					+ defaultLocale.hashCode();
+		}
+
+		private static Key forCurrentThread() {
+			return new Key(
+					Thread.currentThread().getContextClassLoader(),
+					digest( TestUtil.getInputStreamForPath( VALIDATION_XML ) ),
+					Locale.getDefault()
+			);
+		}
+
+		private static byte[] digest(InputStream validationXml) {
+			if ( validationXml == null ) {
+				return new byte[0];
+			}
+
+			try ( InputStream in = validationXml ) {
+				MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+				byte[] buffer = new byte[4096];
+				int read;
+				while ( ( read = in.read( buffer ) ) != -1 ) {
+					digest.update( buffer, 0, read );
+				}
+				return digest.digest();
+			}
+			catch (IOException | NoSuchAlgorithmException e) {
+				throw new IllegalStateException( "Unable to read " + VALIDATION_XML, e );
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			Key other = (Key) o;
+			return contextClassLoader == other.contextClassLoader
+					&& Arrays.equals( validationXmlDigest, other.validationXmlDigest )
+					&& defaultLocale.equals( other.defaultLocale );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class PooledValidatorFactory implements ValidatorFactory {
+
+		private final ValidatorFactory delegate;
+
+		private PooledValidatorFactory(ValidatorFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Validator getValidator() {
+			return delegate.getValidator();
+		}
+
+		@Override
+		public ValidatorContext usingContext() {
+			return delegate.usingContext();
+		}
+
+		@Override
+		public MessageInterpolator getMessageInterpolator() {
+			return delegate.getMessageInterpolator();
+		}
+
+		@Override
+		public TraversableResolver getTraversableResolver() {
+			return delegate.getTraversableResolver();
+		}
+
+		@Override
+		public ConstraintValidatorFactory getConstraintValidatorFactory() {
+			return delegate.getConstraintValidatorFactory();
+		}
+
+		@Override
+		public ParameterNameProvider getParameterNameProvider() {
+			return delegate.getParameterNameProvider();
+		}
+
+		@Override
+		public ClockProvider getClockProvider() {
+			return delegate.getClockProvider();
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return delegate.unwrap( type );
+		}
+
+		@Override
+		public void close() {
+			// the factory is shared, it is closed by the pool
+		}
+
+		@Override
+		public String toString() {
+			return "PooledValidatorFactory(" + delegate + ")";
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener recording the wall clock time, the CPU time and the bytes allocated by each test method, if the
+ * system property <i>performanceReport</i> is set to {@code true}. Otherwise, the listener does nothing.
+ * <p>
+ * At the end of the suite, the measurements are aggregated by specification section (as referenced by the
+ * {@link SpecAssertion}s of the tests) and written as {@code performance-beanvalidation.json} and
+ * {@code performance-beanvalidation.html} to the directory given by the system property
+ * <i>performanceReportDirectory</i> ({@code target/coverage-report} by default, i.e. next to the coverage report).
+ * <p>
+ * The CPU time and the allocated bytes are those of the thread executing the test. They are only meaningful when the
+ * tests are executed in the current JVM, i.e. with the in JVM container adapter.
+ */
+public class PerformanceReportListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final Logger log = Logger.getLogger( PerformanceReportListener.class.getName() );
+
+	/**
+	 * Name of the system property for enabling the performance report.
+	 */
+	private static final String PERFORMANCE_REPORT = "performanceReport";
+
+	/**
+	 * Name of the system property for configuring the directory the performance report is written to.
+	 */
+	private static final String PERFORMANCE_REPORT_DIRECTORY = "performanceReportDirectory";
+
+	private static final String DEFAULT_PERFORMANCE_REPORT_DIRECTORY = "target" + File.separator + "coverage-report";
+
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+	private final boolean enabled = Boolean.getBoolean( PERFORMANCE_REPORT );
+
+	private final ThreadLocal<long[]> startValues = new ThreadLocal<>();
+
+	private final Queue<TestMeasurement> measurements = new ConcurrentLinkedQueue<>();
+
+	private final SpecAssertionReader specAssertionReader = new SpecAssertionReader();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		if ( !enabled || !method.isTestMethod() ) {
+			return;
+		}
+
+		startValues.set( new long[] { getAllocatedBytes(), getCpuTime(), System.nanoTime() } );
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		if ( !enabled || !method.isTestMethod() ) {
+			return;
+		}
+
+		long wallTime = System.nanoTime();
+		long cpuTime = getCpuTime();
+		long allocatedBytes = getAllocatedBytes();
+
+		long[] start = startValues.get();
+		startValues.remove();
+		if ( start == null ) {
+			return;
+		}
+
+		Method testMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+		measurements.add( new TestMeasurement(
+				testMethod.getDeclaringClass().getName(),
+				testMethod.getName(),
+				testResult,
+				specAssertionReader.getSections( testMethod.getDeclaringClass(), testMethod.getName() ),
+				wallTime - start[2],
+				cpuTime < 0 ? -1 : cpuTime - start[1],
+				allocatedBytes < 0 ? -1 : allocatedBytes - start[0]
+		) );
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		if ( !enabled || measurements.isEmpty() ) {
+			return;
+		}
+
+		File directory = new File( System.getProperty( PERFORMANCE_REPORT_DIRECTORY, DEFAULT_PERFORMANCE_REPORT_DIRECTORY ) );
+		try {
+			PerformanceReportWriter writer = new PerformanceReportWriter( new ArrayList<>( measurements ) );
+			writer.writeJson( new File( directory, "performance-beanvalidation.json" ) );
+			writer.writeHtml( new File( directory, "performance-beanvalidation.html" ) );
+			log.info( "Performance report of " + measurements.size() + " tests written to " + directory );
+		}
+		catch (IOException e) {
+			log.log( Level.WARNING, "Unable to write the performance report to " + directory, e );
+		}
+	}
+
+	private static long getCpuTime() {
+		return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+	}
+
+	private static long getAllocatedBytes() {
+		if ( !ALLOCATED_BYTES_SUPPORTED ) {
+			return -1;
+		}
+		return ( (com.sun.management.ThreadMXBean) THREAD_MX_BEAN ).getThreadAllocatedBytes( Thread.currentThread().getId() );
+	}
+
+	private static boolean isAllocatedBytesSupported() {
+		// the allocated bytes are only exposed by some JVMs
+		try {
+			return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+					&& ( (com.sun.management.ThreadMXBean) THREAD_MX_BEAN ).isThreadAllocatedMemorySupported();
+		}
+		catch (LinkageError e) {
+			return false;
+		}
+	}
+}
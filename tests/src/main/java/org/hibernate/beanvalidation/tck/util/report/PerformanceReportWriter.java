@@ -0,0 +1,373 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.hibernate.beanvalidation.tck.beanvalidation.Sections;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Aggregates the {@link TestMeasurement}s by specification section and chapter and writes them as JSON and HTML.
+ * <p>
+ * The titles and numbers of the sections are read from the {@code tck-audit.xml} document, the names of the
+ * corresponding constants from the generated {@link Sections} class.
+ */
+class PerformanceReportWriter {
+
+	private static final Logger log = Logger.getLogger( PerformanceReportWriter.class.getName() );
+
+	private static final String AUDIT_FILE = "/tck-audit.xml";
+
+	/**
+	 * Number of tests listed in the HTML report.
+	 */
+	private static final int SLOWEST_TESTS = 100;
+
+	private final List<TestMeasurement> measurements;
+
+	private final Map<String, SectionInfo> sectionInfos;
+
+	PerformanceReportWriter(List<TestMeasurement> measurements) {
+		this.measurements = new ArrayList<>( measurements );
+		this.measurements.sort( Comparator.comparingLong( TestMeasurement::getWallTime ).reversed() );
+		this.sectionInfos = loadSectionInfos();
+	}
+
+	void writeJson(File file) throws IOException {
+		StringBuilder json = new StringBuilder();
+		json.append( "{\n" );
+		json.append( "  \"summary\": " );
+		appendJson( json, total() );
+		json.append( ",\n  \"chapters\": [" );
+		appendJson( json, aggregate( true ) );
+		json.append( "\n  ],\n  \"sections\": [" );
+		appendJson( json, aggregate( false ) );
+		json.append( "\n  ],\n  \"tests\": [" );
+		String separator = "\n    ";
+		for ( TestMeasurement measurement : measurements ) {
+			json.append( separator ).append( "{ " );
+			json.append( "\"class\": " ).append( quote( measurement.getClassName() ) );
+			json.append( ", \"method\": " ).append( quote( measurement.getMethodName() ) );
+			json.append( ", \"status\": " ).append( quote( measurement.getStatus() ) );
+			json.append( ", \"sections\": [" );
+			String sectionSeparator = "";
+			for ( String section : measurement.getSections() ) {
+				json.append( sectionSeparator ).append( quote( section ) );
+				sectionSeparator = ", ";
+			}
+			json.append( "]" );
+			json.append( ", \"wallTimeNanos\": " ).append( measurement.getWallTime() );
+			json.append( ", \"cpuTimeNanos\": " ).append( measurement.getCpuTime() );
+			json.append( ", \"allocatedBytes\": " ).append( measurement.getAllocatedBytes() );
+			json.append( " }" );
+			separator = ",\n    ";
+		}
+		json.append( "\n  ]\n}\n" );
+
+		write( file, json );
+	}
+
+	void writeHtml(File file) throws IOException {
+		StringBuilder html = new StringBuilder();
+		html.append( "<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n" );
+		html.append( "<title>Bean Validation TCK Performance Report</title>\n" );
+		html.append( "<style>\n" );
+		html.append( "body { font-family: sans-serif; font-size: 13px; }\n" );
+		html.append( "table { border-collapse: collapse; margin-bottom: 2em; }\n" );
+		html.append( "th, td { border: 1px solid #ccc; padding: 2px 6px; }\n" );
+		html.append( "th { background: #eee; }\n" );
+		html.append( "td.number { text-align: right; }\n" );
+		html.append( "tr.failure { background: #fdd; }\n" );
+		html.append( "tr.skip { background: #ffd; }\n" );
+		html.append( "</style>\n</head>\n<body>\n" );
+		html.append( "<h1>Bean Validation TCK Performance Report</h1>\n" );
+
+		Statistics total = total();
+		html.append( "<p>" ).append( total.tests ).append( " tests executed in " ).append( formatNanos( total.wallTime ) )
+				.append( " (CPU time: " ).append( formatNanos( total.cpuTime ) )
+				.append( ", allocated: " ).append( formatBytes( total.allocatedBytes ) ).append( ").</p>\n" );
+		html.append( "<p>A test covering several sections is accounted for in each of them.</p>\n" );
+
+		html.append( "<h2>Chapter Summary</h2>\n" );
+		appendHtml( html, aggregate( true ) );
+		html.append( "<h2>Section Summary</h2>\n" );
+		appendHtml( html, aggregate( false ) );
+
+		html.append( "<h2>Slowest Tests</h2>\n" );
+		html.append( "<table>\n<tr><th>Test</th><th>Status</th><th>Sections</th><th>Wall time</th><th>CPU time</th><th>Allocated</th></tr>\n" );
+		for ( TestMeasurement measurement : measurements.subList( 0, Math.min( SLOWEST_TESTS, measurements.size() ) ) ) {
+			html.append( "<tr class=\"" ).append( measurement.getStatus() ).append( "\">" );
+			html.append( "<td>" ).append( escape( measurement.getClassName() + "#" + measurement.getMethodName() ) ).append( "</td>" );
+			html.append( "<td>" ).append( measurement.getStatus() ).append( "</td>" );
+			html.append( "<td>" ).append( escape( String.join( ", ", measurement.getSections() ) ) ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( formatNanos( measurement.getWallTime() ) ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( formatNanos( measurement.getCpuTime() ) ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( formatBytes( measurement.getAllocatedBytes() ) ).append( "</td>" );
+			html.append( "</tr>\n" );
+		}
+		html.append( "</table>\n</body>\n</html>\n" );
+
+		write( file, html );
+	}
+
+	private Statistics total() {
+		Statistics total = new Statistics( null );
+		for ( TestMeasurement measurement : measurements ) {
+			total.add( measurement );
+		}
+		return total;
+	}
+
+	private Collection<Statistics> aggregate(boolean byChapter) {
+		Map<String, Statistics> statistics = new HashMap<>();
+		for ( TestMeasurement measurement : measurements ) {
+			// a test covering several sections of the same chapter only counts once for the chapter
+			Map<String, SectionInfo> keys = new LinkedHashMap<>();
+			for ( String section : measurement.getSections() ) {
+				SectionInfo sectionInfo = getSectionInfo( section );
+				if ( byChapter ) {
+					sectionInfo = getSectionInfo( sectionInfo.chapterId );
+				}
+				keys.put( sectionInfo.id, sectionInfo );
+			}
+			if ( keys.isEmpty() ) {
+				keys.put( "", new SectionInfo( "", null, "(no specification assertion)", null, "" ) );
+			}
+
+			for ( SectionInfo sectionInfo : keys.values() ) {
+				statistics.computeIfAbsent( sectionInfo.id, id -> new Statistics( sectionInfo ) ).add( measurement );
+			}
+		}
+
+		List<Statistics> sorted = new ArrayList<>( statistics.values() );
+		sorted.sort( Comparator.comparingLong( (Statistics s) -> s.wallTime ).reversed() );
+		return sorted;
+	}
+
+	private SectionInfo getSectionInfo(String section) {
+		SectionInfo sectionInfo = sectionInfos.get( section );
+		return sectionInfo != null ? sectionInfo : new SectionInfo( section, null, null, null, section );
+	}
+
+	private static void appendJson(StringBuilder json, Collection<Statistics> statistics) {
+		String separator = "\n    ";
+		for ( Statistics s : statistics ) {
+			json.append( separator );
+			appendJson( json, s );
+			separator = ",\n    ";
+		}
+	}
+
+	private static void appendJson(StringBuilder json, Statistics statistics) {
+		json.append( "{ " );
+		if ( statistics.sectionInfo != null ) {
+			json.append( "\"id\": " ).append( quote( statistics.sectionInfo.id ) );
+			json.append( ", \"number\": " ).append( quote( statistics.sectionInfo.number ) );
+			json.append( ", \"title\": " ).append( quote( statistics.sectionInfo.title ) );
+			json.append( ", \"constant\": " ).append( quote( statistics.sectionInfo.constant ) );
+			json.append( ", " );
+		}
+		json.append( "\"tests\": " ).append( statistics.tests );
+		json.append( ", \"wallTimeNanos\": " ).append( statistics.wallTime );
+		json.append( ", \"cpuTimeNanos\": " ).append( statistics.cpuTime );
+		json.append( ", \"allocatedBytes\": " ).append( statistics.allocatedBytes );
+		json.append( " }" );
+	}
+
+	private static void appendHtml(StringBuilder html, Collection<Statistics> statistics) {
+		html.append( "<table>\n<tr><th>Section</th><th>Title</th><th>Constant</th><th>Tests</th><th>Wall time</th><th>CPU time</th><th>Allocated</th></tr>\n" );
+		for ( Statistics s : statistics ) {
+			html.append( "<tr>" );
+			html.append( "<td>" ).append( escape( s.sectionInfo.number != null ? s.sectionInfo.number : s.sectionInfo.id ) ).append( "</td>" );
+			html.append( "<td>" ).append( escape( s.sectionInfo.title ) ).append( "</td>" );
+			html.append( "<td>" ).append( escape( s.sectionInfo.constant ) ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( s.tests ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( formatNanos( s.wallTime ) ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( formatNanos( s.cpuTime ) ).append( "</td>" );
+			html.append( "<td class=\"number\">" ).append( formatBytes( s.allocatedBytes ) ).append( "</td>" );
+			html.append( "</tr>\n" );
+		}
+		html.append( "</table>\n" );
+	}
+
+	private static void write(File file, CharSequence content) throws IOException {
+		File directory = file.getAbsoluteFile().getParentFile();
+		if ( !directory.isDirectory() && !directory.mkdirs() ) {
+			throw new IOException( "Unable to create directory " + directory );
+		}
+		try ( Writer writer = Files.newBufferedWriter( file.toPath(), StandardCharsets.UTF_8 ) ) {
+			writer.append( content );
+		}
+	}
+
+	private static Map<String, SectionInfo> loadSectionInfos() {
+		Map<String, String> constants = new HashMap<>();
+		for ( Field field : Sections.class.getFields() ) {
+			if ( Modifier.isStatic( field.getModifiers() ) && field.getType() == String.class ) {
+				try {
+					constants.put( (String) field.get( null ), field.getName() );
+				}
+				catch (IllegalAccessException e) {
+					throw new IllegalStateException( e );
+				}
+			}
+		}
+
+		Map<String, SectionInfo> sectionInfos = new HashMap<>();
+		try ( InputStream in = PerformanceReportWriter.class.getResourceAsStream( AUDIT_FILE ) ) {
+			if ( in == null ) {
+				return sectionInfos;
+			}
+
+			NodeList sections = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse( in ).getElementsByTagName( "section" );
+			// the sections are listed in the order of the specification, their number is derived from their level
+			int[] counters = new int[10];
+			String chapterId = null;
+			for ( int i = 0; i < sections.getLength(); i++ ) {
+				Element section = (Element) sections.item( i );
+				String id = section.getAttribute( "id" );
+				int level = Integer.parseInt( section.getAttribute( "level" ) );
+				if ( level < 1 || level > counters.length ) {
+					continue;
+				}
+
+				counters[level - 1]++;
+				StringBuilder number = new StringBuilder();
+				for ( int l = 0; l < counters.length; l++ ) {
+					if ( l >= level ) {
+						counters[l] = 0;
+					}
+					else {
+						number.append( l > 0 ? "." : "" ).append( counters[l] );
+					}
+				}
+				if ( level == 1 ) {
+					chapterId = id;
+				}
+
+				sectionInfos.put( id, new SectionInfo( id, number.toString(), section.getAttribute( "title" ), constants.get( id ),
+						chapterId != null ? chapterId : id ) );
+			}
+		}
+		catch (Exception e) {
+			log.log( Level.WARNING, "Unable to read the sections from " + AUDIT_FILE, e );
+		}
+		return sectionInfos;
+	}
+
+	private static String formatNanos(long nanos) {
+		return nanos < 0 ? "n/a" : String.format( Locale.ROOT, "%.1f ms", nanos / 1_000_000d );
+	}
+
+	private static String formatBytes(long bytes) {
+		return bytes < 0 ? "n/a" : String.format( Locale.ROOT, "%.1f KiB", bytes / 1024d );
+	}
+
+	private static String quote(String value) {
+		if ( value == null ) {
+			return "null";
+		}
+
+		StringBuilder quoted = new StringBuilder( "\"" );
+		for ( char c : value.toCharArray() ) {
+			switch ( c ) {
+				case '"':
+					quoted.append( "\\\"" );
+					break;
+				case '\\':
+					quoted.append( "\\\\" );
+					break;
+				default:
+					if ( c < 0x20 ) {
+						quoted.append( String.format( "\\u%04x", (int) c ) );
+					}
+					else {
+						quoted.append( c );
+					}
+			}
+		}
+		return quoted.append( '"' ).toString();
+	}
+
+	private static String escape(String value) {
+		if ( value == null ) {
+			return "";
+		}
+		return value.replace( "&", "&amp;" ).replace( "<", "&lt;" ).replace( ">", "&gt;" ).replace( "\"", "&quot;" );
+	}
+
+	private static class SectionInfo {
+
+		private final String id;
+
+		private final String number;
+
+		private final String title;
+
+		private final String constant;
+
+		private final String chapterId;
+
+		private SectionInfo(String id, String number, String title, String constant, String chapterId) {
+			this.id = id;
+			this.number = number;
+			this.title = title;
+			this.constant = constant;
+			this.chapterId = chapterId;
+		}
+	}
+
+	private static class Statistics {
+
+		private final SectionInfo sectionInfo;
+
+		private int tests;
+
+		private long wallTime;
+
+		private long cpuTime;
+
+		private long allocatedBytes;
+
+		private Statistics(SectionInfo sectionInfo) {
+			this.sectionInfo = sectionInfo;
+		}
+
+		private void add(TestMeasurement measurement) {
+			tests++;
+			wallTime += measurement.getWallTime();
+			cpuTime = sum( cpuTime, measurement.getCpuTime() );
+			allocatedBytes = sum( allocatedBytes, measurement.getAllocatedBytes() );
+		}
+
+		private static long sum(long total, long value) {
+			// -1 means the value is not supported by the JVM
+			return total < 0 || value < 0 ? -1 : total + value;
+		}
+	}
+}
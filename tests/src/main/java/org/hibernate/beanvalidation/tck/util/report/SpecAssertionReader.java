@@ -0,0 +1,231 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.report;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.test.audit.annotations.SpecAssertion;
+import org.jboss.test.audit.annotations.SpecAssertions;
+
+/**
+ * Reads the sections referenced by the {@link SpecAssertion}s (possibly grouped in {@link SpecAssertions}) of the
+ * methods of a test class.
+ * <p>
+ * {@code SpecAssertion} is not retained at runtime, thus the annotations are read from the class file itself.
+ */
+class SpecAssertionReader {
+
+	private static final Logger log = Logger.getLogger( SpecAssertionReader.class.getName() );
+
+	private static final String SPEC_ASSERTION_DESCRIPTOR = "L" + SpecAssertion.class.getName().replace( '.', '/' ) + ";";
+
+	private static final String SECTION = "section";
+
+	private final ConcurrentMap<Class<?>, Map<String, Set<String>>> sectionsByClass = new ConcurrentHashMap<>();
+
+	/**
+	 * @param testClass the class declaring the test method
+	 * @param methodName the name of the test method
+	 *
+	 * @return the ids of the sections referenced by the assertions of the given method, in their declaration order
+	 */
+	Set<String> getSections(Class<?> testClass, String methodName) {
+		Set<String> sections = sectionsByClass.computeIfAbsent( testClass, SpecAssertionReader::readSections ).get( methodName );
+		return sections != null ? sections : Collections.<String>emptySet();
+	}
+
+	private static Map<String, Set<String>> readSections(Class<?> testClass) {
+		ClassLoader classLoader = testClass.getClassLoader() != null ? testClass.getClassLoader() : ClassLoader.getSystemClassLoader();
+		try ( InputStream classFile = classLoader.getResourceAsStream( testClass.getName().replace( '.', '/' ) + ".class" ) ) {
+			if ( classFile == null ) {
+				return Collections.emptyMap();
+			}
+			return new ClassFileParser( new DataInputStream( new BufferedInputStream( classFile ) ) ).parse();
+		}
+		catch (IOException | RuntimeException e) {
+			log.log( Level.WARNING, "Unable to read the assertions of " + testClass.getName(), e );
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Minimal parser of the class file format, only keeping the annotations of the methods (see chapter 4 of the Java
+	 * Virtual Machine Specification).
+	 */
+	private static class ClassFileParser {
+
+		private final DataInputStream in;
+
+		private String[] utf8Constants;
+
+		private ClassFileParser(DataInputStream in) {
+			this.in = in;
+		}
+
+		private Map<String, Set<String>> parse() throws IOException {
+			if ( in.readInt() != 0xCAFEBABE ) {
+				throw new IOException( "Not a class file" );
+			}
+			// minor and major versions
+			in.skipBytes( 4 );
+			readConstantPool();
+			// access flags, this class, super class
+			in.skipBytes( 6 );
+			in.skipBytes( 2 * in.readUnsignedShort() );
+
+			// fields
+			int fieldCount = in.readUnsignedShort();
+			for ( int i = 0; i < fieldCount; i++ ) {
+				in.skipBytes( 6 );
+				skipAttributes();
+			}
+
+			Map<String, Set<String>> sectionsByMethod = new HashMap<>();
+			int methodCount = in.readUnsignedShort();
+			for ( int i = 0; i < methodCount; i++ ) {
+				in.skipBytes( 2 );
+				String name = utf8Constants[in.readUnsignedShort()];
+				in.skipBytes( 2 );
+
+				Set<String> sections = new LinkedHashSet<>();
+				int attributeCount = in.readUnsignedShort();
+				for ( int j = 0; j < attributeCount; j++ ) {
+					String attributeName = utf8Constants[in.readUnsignedShort()];
+					int length = in.readInt();
+					if ( "RuntimeInvisibleAnnotations".equals( attributeName ) || "RuntimeVisibleAnnotations".equals( attributeName ) ) {
+						int annotationCount = in.readUnsignedShort();
+						for ( int k = 0; k < annotationCount; k++ ) {
+							readAnnotation( sections );
+						}
+					}
+					else {
+						in.skipBytes( length );
+					}
+				}
+
+				if ( !sections.isEmpty() ) {
+					sectionsByMethod.computeIfAbsent( name, n -> new LinkedHashSet<>() ).addAll( sections );
+				}
+			}
+			return sectionsByMethod;
+		}
+
+		private void readConstantPool() throws IOException {
+			int count = in.readUnsignedShort();
+			utf8Constants = new String[count];
+			for ( int i = 1; i < count; i++ ) {
+				int tag = in.readUnsignedByte();
+				switch ( tag ) {
+					case 1: // Utf8
+						utf8Constants[i] = in.readUTF();
+						break;
+					case 7: // Class
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						in.skipBytes( 2 );
+						break;
+					case 15: // MethodHandle
+						in.skipBytes( 3 );
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						in.skipBytes( 4 );
+						break;
+					case 5: // Long
+					case 6: // Double
+						in.skipBytes( 8 );
+						// 8 bytes constants take two entries
+						i++;
+						break;
+					default:
+						throw new IOException( "Unknown constant pool tag " + tag );
+				}
+			}
+		}
+
+		private void skipAttributes() throws IOException {
+			int attributeCount = in.readUnsignedShort();
+			for ( int i = 0; i < attributeCount; i++ ) {
+				in.skipBytes( 2 );
+				in.skipBytes( in.readInt() );
+			}
+		}
+
+		/**
+		 * Reads an annotation, collecting the section if it is a {@code SpecAssertion}. The {@code SpecAssertion}s
+		 * nested in a {@code SpecAssertions} are read as element values.
+		 */
+		private void readAnnotation(Set<String> sections) throws IOException {
+			boolean specAssertion = SPEC_ASSERTION_DESCRIPTOR.equals( utf8Constants[in.readUnsignedShort()] );
+
+			int pairCount = in.readUnsignedShort();
+			for ( int i = 0; i < pairCount; i++ ) {
+				String elementName = utf8Constants[in.readUnsignedShort()];
+				String value = readElementValue( sections );
+				if ( specAssertion && SECTION.equals( elementName ) && value != null ) {
+					sections.add( value );
+				}
+			}
+		}
+
+		/**
+		 * @return the value of the element if it is a string, {@code null} otherwise
+		 */
+		private String readElementValue(Set<String> sections) throws IOException {
+			int tag = in.readUnsignedByte();
+			switch ( tag ) {
+				case 's':
+					return utf8Constants[in.readUnsignedShort()];
+				case 'B':
+				case 'C':
+				case 'D':
+				case 'F':
+				case 'I':
+				case 'J':
+				case 'S':
+				case 'Z':
+				case 'c':
+					in.skipBytes( 2 );
+					return null;
+				case 'e':
+					in.skipBytes( 4 );
+					return null;
+				case '@':
+					readAnnotation( sections );
+					return null;
+				case '[':
+					int valueCount = in.readUnsignedShort();
+					for ( int i = 0; i < valueCount; i++ ) {
+						readElementValue( sections );
+					}
+					return null;
+				default:
+					throw new IOException( "Unknown element value tag " + (char) tag );
+			}
+		}
+	}
+}
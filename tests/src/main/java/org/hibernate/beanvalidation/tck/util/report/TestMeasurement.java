@@ -0,0 +1,94 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.report;
+
+import java.util.Set;
+
+import org.testng.ITestResult;
+
+/**
+ * The resources consumed by the execution of a test method.
+ */
+class TestMeasurement {
+
+	private final String className;
+
+	private final String methodName;
+
+	private final ITestResult testResult;
+
+	private final Set<String> sections;
+
+	private final long wallTime;
+
+	private final long cpuTime;
+
+	private final long allocatedBytes;
+
+	TestMeasurement(String className, String methodName, ITestResult testResult, Set<String> sections, long wallTime, long cpuTime, long allocatedBytes) {
+		this.className = className;
+		this.methodName = methodName;
+		this.testResult = testResult;
+		this.sections = sections;
+		this.wallTime = wallTime;
+		this.cpuTime = cpuTime;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	String getClassName() {
+		return className;
+	}
+
+	String getMethodName() {
+		return methodName;
+	}
+
+	/**
+	 * @return the status of the test, only final once the test has been completely processed by TestNG
+	 */
+	String getStatus() {
+		switch ( testResult.getStatus() ) {
+			case ITestResult.SUCCESS:
+				return "success";
+			case ITestResult.FAILURE:
+			case ITestResult.SUCCESS_PERCENTAGE_FAILURE:
+				return "failure";
+			case ITestResult.SKIP:
+				return "skip";
+			default:
+				return "unknown";
+		}
+	}
+
+	/**
+	 * @return the ids of the specification sections covered by the test, as referenced by its {@code @SpecAssertion}s
+	 */
+	Set<String> getSections() {
+		return sections;
+	}
+
+	/**
+	 * @return the wall clock time in nanoseconds
+	 */
+	long getWallTime() {
+		return wallTime;
+	}
+
+	/**
+	 * @return the CPU time of the thread executing the test in nanoseconds, -1 if not supported by the JVM
+	 */
+	long getCpuTime() {
+		return cpuTime;
+	}
+
+	/**
+	 * @return the bytes allocated by the thread executing the test, -1 if not supported by the JVM
+	 */
+	long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+}
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.Asset;
 import org.jboss.shrinkwrap.api.container.ClassContainer;
 import org.jboss.shrinkwrap.api.container.LibraryContainer;
@@ -154,6 +155,9 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 	public abstract T self();
 
 	/**
+	 * Builds the archive or, if an archive with the same content has already been built, returns a copy of it (see
+	 * {@link ArchiveCache}).
+	 *
 	 * @return shrinkwrap archive
 	 */
 	public A build() {
@@ -161,7 +165,22 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 			throw new IllegalStateException( "Test class must be set!" );
 		}
 
-		return buildInternal();
+		ArchiveCache archiveCache = ArchiveCache.getInstance();
+		if ( !archiveCache.isEnabled() ) {
+			return buildInternal();
+		}
+
+		ArchiveFingerprint fingerprint = new ArchiveFingerprint( getClassLoader() );
+		processFingerprint( fingerprint );
+		String fingerprintValue = fingerprint.getValue();
+
+		Archive<?> archive = archiveCache.get( fingerprintValue );
+		if ( archive == null ) {
+			archive = buildInternal();
+			archiveCache.put( fingerprintValue, archive );
+		}
+
+		return createArchive().merge( archive );
 	}
 
 	/**
@@ -169,6 +188,79 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 	 */
 	protected abstract A buildInternal();
 
+	/**
+	 * @return the type of the final archive
+	 */
+	protected abstract Class<A> getArchiveType();
+
+	/**
+	 * @return a new empty archive of the final type, named after the configured name if any
+	 */
+	protected A createArchive() {
+		if ( getName() == null ) {
+			return ShrinkWrap.create( getArchiveType() );
+		}
+		else {
+			return ShrinkWrap.create( getArchiveType(), getName() );
+		}
+	}
+
+	/**
+	 * Adds everything which contributes to the content of the archive to the given fingerprint. The name of the
+	 * archive is not part of it. Subclasses adding content of their own must override this method.
+	 *
+	 * @param fingerprint the fingerprint of the archive
+	 */
+	void processFingerprint(ArchiveFingerprint fingerprint) {
+		fingerprint.add( getArchiveType().getName() );
+
+		if ( packages != null ) {
+			for ( String pack : packages ) {
+				fingerprint.addPackage( pack );
+			}
+		}
+
+		if ( classes != null ) {
+			for ( String clazz : classes ) {
+				if ( testClazz.getName().equals( clazz ) ) {
+					continue;
+				}
+				fingerprint.addClass( clazz );
+			}
+		}
+
+		if ( resources != null ) {
+			for ( ResourceDescriptor resource : resources ) {
+				processFingerprint( fingerprint, resource );
+			}
+		}
+
+		if ( serviceProviders != null ) {
+			for ( ServiceProviderDescriptor serviceProvider : serviceProviders ) {
+				fingerprint.add( serviceProvider.getServiceInterface().getName() );
+				for ( Class<?> serviceImplementation : serviceProvider.getServiceImplementations() ) {
+					fingerprint.add( serviceImplementation.getName() );
+				}
+			}
+		}
+
+		if ( additionalJars != null ) {
+			for ( File additionalJar : additionalJars ) {
+				fingerprint.addFile( additionalJar );
+			}
+		}
+	}
+
+	void processFingerprint(ArchiveFingerprint fingerprint, ResourceDescriptor resource) {
+		fingerprint.add( resource.getTarget() );
+		if ( resource.getSource() != null ) {
+			fingerprint.addResource( resource.getSource() );
+		}
+		else if ( resource.getAsset() != null ) {
+			fingerprint.addAsset( resource.getAsset() );
+		}
+	}
+
 	protected void processPackages(final ClassContainer<?> archive) {
 
 		if ( packages == null ) {
@@ -184,15 +276,9 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 				}
 			};
 
-			ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-
-			if ( classLoader == null ) {
-				classLoader = getClass().getClassLoader();
-			}
-
 			final URLPackageScanner scanner = URLPackageScanner.newInstance(
 					false,
-					classLoader,
+					getClassLoader(),
 					callback,
 					pack
 			);
@@ -312,6 +398,16 @@ public abstract class ArchiveBuilder<T extends ArchiveBuilder<T, A>, A extends A
 		}
 	}
 
+	private ClassLoader getClassLoader() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+		if ( classLoader == null ) {
+			classLoader = getClass().getClassLoader();
+		}
+
+		return classLoader;
+	}
+
 	private String getTestPackagePath() {
 		return this.testClazz.getPackage().getName().replace( '.', '/' ).concat( "/" );
 	}
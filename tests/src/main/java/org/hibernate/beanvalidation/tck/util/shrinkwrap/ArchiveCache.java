@@ -0,0 +1,137 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.GenericArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.importer.ZipImporter;
+
+/**
+ * Cache of the archives built by the {@link ArchiveBuilder}s, keyed by the {@link ArchiveFingerprint} of their
+ * content.
+ * <p>
+ * The cache is controlled by the system property <i>archiveCache</i>:
+ * <ul>
+ * <li>{@code none} (default): the archives are built from scratch for each deployment,</li>
+ * <li>{@code memory}: the archives are kept in memory for the duration of the run,</li>
+ * <li>{@code disk}: the archives are also stored as zip files in the directory given by the system property
+ * <i>archiveCacheDirectory</i> ({@code target/archive-cache} by default) and reused by the next runs.</li>
+ * </ul>
+ * Cached archives are never handed out directly, the builders always return a copy.
+ */
+final class ArchiveCache {
+
+	private static final Logger log = Logger.getLogger( ArchiveCache.class.getName() );
+
+	/**
+	 * Name of the system property for configuring the archive cache.
+	 */
+	private static final String ARCHIVE_CACHE = "archiveCache";
+
+	/**
+	 * Name of the system property for configuring the directory of the disk cache.
+	 */
+	private static final String ARCHIVE_CACHE_DIRECTORY = "archiveCacheDirectory";
+
+	private static final String DEFAULT_ARCHIVE_CACHE_DIRECTORY = "target" + File.separator + "archive-cache";
+
+	private static final ArchiveCache INSTANCE = new ArchiveCache();
+
+	private final Mode mode;
+
+	private final File directory;
+
+	private final ConcurrentMap<String, Archive<?>> archives = new ConcurrentHashMap<>();
+
+	private ArchiveCache() {
+		mode = Mode.valueOf( System.getProperty( ARCHIVE_CACHE, Mode.NONE.name() ).toUpperCase( Locale.ROOT ) );
+		directory = new File( System.getProperty( ARCHIVE_CACHE_DIRECTORY, DEFAULT_ARCHIVE_CACHE_DIRECTORY ) );
+	}
+
+	static ArchiveCache getInstance() {
+		return INSTANCE;
+	}
+
+	boolean isEnabled() {
+		return mode != Mode.NONE;
+	}
+
+	/**
+	 * @param fingerprint the fingerprint of the archive content
+	 *
+	 * @return the cached archive or {@code null} if there is no archive with this fingerprint
+	 */
+	Archive<?> get(String fingerprint) {
+		Archive<?> archive = archives.get( fingerprint );
+		if ( archive != null || mode != Mode.DISK ) {
+			return archive;
+		}
+
+		File file = getFile( fingerprint );
+		if ( !file.isFile() ) {
+			return null;
+		}
+
+		// importing from a stream keeps the content in memory, the file might be replaced by a concurrent run
+		try ( InputStream in = new FileInputStream( file ) ) {
+			archive = ShrinkWrap.create( GenericArchive.class, file.getName() )
+					.as( ZipImporter.class )
+					.importFrom( in )
+					.as( GenericArchive.class );
+		}
+		catch (IOException | RuntimeException e) {
+			log.log( Level.WARNING, "Unable to read cached archive " + file + ", it will be rebuilt", e );
+			return null;
+		}
+
+		archives.putIfAbsent( fingerprint, archive );
+		return archive;
+	}
+
+	void put(String fingerprint, Archive<?> archive) {
+		archives.putIfAbsent( fingerprint, archive );
+
+		if ( mode != Mode.DISK ) {
+			return;
+		}
+
+		if ( !directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory() ) {
+			log.warning( "Unable to create archive cache directory " + directory );
+			return;
+		}
+
+		// export to a temporary file first so that concurrent runs never see a partially written archive
+		File file = getFile( fingerprint );
+		File temporaryFile = new File( directory, fingerprint + "." + Thread.currentThread().getId() + ".tmp" );
+		archive.as( ZipExporter.class ).exportTo( temporaryFile, true );
+		if ( !temporaryFile.renameTo( file ) ) {
+			temporaryFile.delete();
+		}
+	}
+
+	private File getFile(String fingerprint) {
+		return new File( directory, fingerprint + ".zip" );
+	}
+
+	private enum Mode {
+		NONE,
+		MEMORY,
+		DISK
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+
+/**
+ * Computes a digest of everything which contributes to the content of an archive built by an {@link ArchiveBuilder}.
+ * <p>
+ * Classes, packages and resources are not read entirely: they contribute their name and a stamp (size and last
+ * modification date) of the file, directory or jar they are loaded from. Stamps are computed once per JVM as the
+ * classpath is not expected to change during a TCK run.
+ * <p>
+ * {@link #of(Archive)} computes the same kind of digest from the content of an archive which has already been built.
+ */
+public class ArchiveFingerprint {
+
+	private static final ConcurrentMap<String, String> STAMPS = new ConcurrentHashMap<>();
+
+	private static final String JAR_SEPARATOR = "!";
+
+	private final ClassLoader classLoader;
+
+	private final MessageDigest digest;
+
+	ArchiveFingerprint(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+		try {
+			this.digest = MessageDigest.getInstance( "SHA-1" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( "Unable to compute archive fingerprints", e );
+		}
+	}
+
+	/**
+	 * Computes a digest of the paths and contents of the entries of the given archive. Files added as is (e.g. the
+	 * libraries) only contribute their location and stamp.
+	 *
+	 * @param archive the archive
+	 *
+	 * @return the fingerprint of the archive
+	 */
+	public static String of(Archive<?> archive) {
+		// the content is not ordered, the entries have to be sorted for the digest to be stable
+		Map<String, Node> content = new TreeMap<>();
+		for ( Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet() ) {
+			content.put( entry.getKey().get(), entry.getValue() );
+		}
+
+		ArchiveFingerprint fingerprint = new ArchiveFingerprint( ArchiveFingerprint.class.getClassLoader() );
+		for ( Map.Entry<String, Node> entry : content.entrySet() ) {
+			fingerprint.add( entry.getKey() );
+
+			Asset asset = entry.getValue().getAsset();
+			if ( asset instanceof FileAsset ) {
+				fingerprint.addFile( ( (FileAsset) asset ).getSource() );
+			}
+			else if ( asset != null ) {
+				fingerprint.addAsset( asset );
+			}
+		}
+		return fingerprint.getValue();
+	}
+
+	ArchiveFingerprint add(String value) {
+		// the separator prevents two sequences of values from leading to the same digest
+		digest.update( String.valueOf( value ).getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+		return this;
+	}
+
+	ArchiveFingerprint addPackage(String packageName) {
+		String path = packageName.replace( '.', '/' );
+		return add( packageName ).add( stamp( path, false ) );
+	}
+
+	ArchiveFingerprint addClass(String className) {
+		// we stamp the directory containing the class so that changes of nested classes are taken into account
+		return add( className ).add( stamp( className.replace( '.', '/' ) + ".class", true ) );
+	}
+
+	ArchiveFingerprint addResource(String path) {
+		return add( path ).add( stamp( path, false ) );
+	}
+
+	ArchiveFingerprint addAsset(Asset asset) {
+		add( asset.getClass().getName() );
+		try ( InputStream in = asset.openStream() ) {
+			if ( in != null ) {
+				byte[] buffer = new byte[4096];
+				int read;
+				while ( ( read = in.read( buffer ) ) != -1 ) {
+					digest.update( buffer, 0, read );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to read asset " + asset, e );
+		}
+		return add( "" );
+	}
+
+	ArchiveFingerprint addFile(File file) {
+		return add( file.getAbsolutePath() ).add( stamp( file ) );
+	}
+
+	String getValue() {
+		StringBuilder value = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			value.append( String.format( "%02x", b ) );
+		}
+		return value.toString();
+	}
+
+	private String stamp(String path, boolean containingDirectory) {
+		URL url = classLoader.getResource( path );
+		if ( url == null ) {
+			return "missing";
+		}
+
+		String location = containingDirectory + url.toExternalForm();
+		String stamp = STAMPS.get( location );
+		if ( stamp == null ) {
+			stamp = computeStamp( url, containingDirectory );
+			STAMPS.putIfAbsent( location, stamp );
+		}
+		return stamp;
+	}
+
+	private static String computeStamp(URL url, boolean containingDirectory) {
+		String protocol = url.getProtocol();
+		String path = decode( url.getPath() );
+
+		if ( "jar".equals( protocol ) && path.startsWith( "file:" ) && path.contains( JAR_SEPARATOR ) ) {
+			return stamp( new File( path.substring( "file:".length(), path.indexOf( JAR_SEPARATOR ) ) ) );
+		}
+		else if ( "file".equals( protocol ) ) {
+			File file = new File( path );
+			return stamp( containingDirectory ? file.getParentFile() : file );
+		}
+		else {
+			// we have no way to track changes, the location is the best we can do
+			return url.toExternalForm();
+		}
+	}
+
+	private static String stamp(File file) {
+		if ( !file.isDirectory() ) {
+			return file.length() + "/" + file.lastModified();
+		}
+
+		File[] children = file.listFiles();
+		if ( children == null ) {
+			return "empty";
+		}
+		Arrays.sort( children );
+
+		StringBuilder stamp = new StringBuilder();
+		for ( File child : children ) {
+			if ( child.isFile() ) {
+				stamp.append( child.getName() ).append( ':' ).append( stamp( child ) ).append( ';' );
+			}
+		}
+		return stamp.toString();
+	}
+
+	private static String decode(String path) {
+		try {
+			return URLDecoder.decode( path, "UTF-8" );
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/**
+ * Bean Validation TCK
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.beanvalidation.tck.util.shrinkwrap;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the classes contained in each package of an archive, stored in the archive itself as
+ * {@code META-INF/tck-package-index}.
+ * <p>
+ * The index is generated when packaging the TCK (see {@link #main(String[])}) and used by the
+ * {@link URLPackageScanner} to avoid walking through all the entries of the TCK jar for each scanned package. Each
+ * entry maps a package name to the comma separated simple names of the classes of the package (nested classes
+ * included).
+ */
+public final class PackageIndex {
+
+	private static final Logger log = Logger.getLogger( PackageIndex.class.getName() );
+
+	private static final String INDEX_RESOURCE = "META-INF/tck-package-index";
+
+	private static final String JAR_SEPARATOR = "!/";
+
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	private static final String CLASS_SEPARATOR = ",";
+
+	private static final PackageIndex NO_INDEX = new PackageIndex( Collections.<String, List<String>>emptyMap() );
+
+	/**
+	 * Indexes per archive root, {@link #NO_INDEX} for the archives which do not contain any index.
+	 */
+	private static final ConcurrentMap<String, PackageIndex> INDEXES = new ConcurrentHashMap<>();
+
+	private final Map<String, List<String>> classesByPackage;
+
+	private PackageIndex(Map<String, List<String>> classesByPackage) {
+		this.classesByPackage = classesByPackage;
+	}
+
+	/**
+	 * Generates the index of the given classes directory.
+	 *
+	 * @param args the classes directory
+	 *
+	 * @throws IOException in case the index cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if ( args.length != 1 ) {
+			throw new IllegalArgumentException( "Usage: PackageIndex <classes directory>" );
+		}
+
+		File classesDirectory = new File( args[0] );
+		Map<String, TreeSet<String>> classesByPackage = new TreeMap<>();
+		collectClasses( classesDirectory, "", classesByPackage );
+
+		Properties index = new Properties();
+		for ( Map.Entry<String, TreeSet<String>> entry : classesByPackage.entrySet() ) {
+			index.setProperty( entry.getKey(), String.join( CLASS_SEPARATOR, entry.getValue() ) );
+		}
+
+		File indexFile = new File( classesDirectory, INDEX_RESOURCE );
+		if ( !indexFile.getParentFile().isDirectory() && !indexFile.getParentFile().mkdirs() ) {
+			throw new IOException( "Unable to create directory " + indexFile.getParentFile() );
+		}
+		try ( OutputStream out = Files.newOutputStream( indexFile.toPath() ) ) {
+			index.store( out, "Bean Validation TCK package index, generated at build time" );
+		}
+		log.info( "Indexed " + classesByPackage.size() + " packages in " + indexFile );
+	}
+
+	/**
+	 * Returns the names of the classes of the given package located at the given URL, if the archive containing
+	 * this URL has been indexed.
+	 *
+	 * @param packageUrl the URL of the package, as returned by {@link ClassLoader#getResources(String)}
+	 * @param packageName the name of the package
+	 * @param addRecursively whether the classes of the sub-packages should be returned as well
+	 *
+	 * @return the fully qualified names of the classes or {@code null} if there is no index for this location
+	 */
+	static List<String> getClassNames(URL packageUrl, String packageName, boolean addRecursively) {
+		// directories are cheap to list and might have been modified since the index was written
+		String location = packageUrl.toExternalForm();
+		if ( !"jar".equals( packageUrl.getProtocol() ) || !location.contains( JAR_SEPARATOR ) ) {
+			return null;
+		}
+
+		String root = location.substring( 0, location.indexOf( JAR_SEPARATOR ) + JAR_SEPARATOR.length() );
+		PackageIndex index = INDEXES.get( root );
+		if ( index == null ) {
+			index = load( root );
+			INDEXES.putIfAbsent( root, index );
+		}
+
+		return index == NO_INDEX ? null : index.getClassNames( packageName, addRecursively );
+	}
+
+	private List<String> getClassNames(String packageName, boolean addRecursively) {
+		List<String> classNames = new ArrayList<>();
+
+		if ( !addRecursively ) {
+			addClassNames( classNames, packageName );
+			return classNames;
+		}
+
+		for ( String indexedPackage : classesByPackage.keySet() ) {
+			if ( packageName.isEmpty() || indexedPackage.equals( packageName ) || indexedPackage.startsWith( packageName + "." ) ) {
+				addClassNames( classNames, indexedPackage );
+			}
+		}
+		return classNames;
+	}
+
+	private void addClassNames(List<String> classNames, String packageName) {
+		List<String> simpleNames = classesByPackage.get( packageName );
+		if ( simpleNames == null ) {
+			return;
+		}
+
+		String packagePrefix = packageName.isEmpty() ? "" : packageName + ".";
+		for ( String simpleName : simpleNames ) {
+			classNames.add( packagePrefix + simpleName );
+		}
+	}
+
+	private static PackageIndex load(String root) {
+		Properties index = new Properties();
+		try {
+			URLConnection connection = new URL( root + INDEX_RESOURCE ).openConnection();
+			// do not keep the jar file open, we only read the index once
+			connection.setUseCaches( false );
+			try ( InputStream in = connection.getInputStream() ) {
+				index.load( in );
+			}
+		}
+		catch (FileNotFoundException e) {
+			return NO_INDEX;
+		}
+		catch (IOException e) {
+			log.log( Level.WARNING, "Unable to read package index of " + root, e );
+			return NO_INDEX;
+		}
+
+		Map<String, List<String>> classesByPackage = new HashMap<>();
+		for ( String packageName : index.stringPropertyNames() ) {
+			String classes = index.getProperty( packageName );
+			classesByPackage.put(
+					packageName,
+					classes.isEmpty() ? Collections.<String>emptyList() : Arrays.asList( classes.split( CLASS_SEPARATOR ) )
+			);
+		}
+		log.fine( "Loaded package index of " + root );
+		return new PackageIndex( classesByPackage );
+	}
+
+	private static void collectClasses(File directory, String packageName, Map<String, TreeSet<String>> classesByPackage) {
+		File[] children = directory.listFiles();
+		if ( children == null ) {
+			return;
+		}
+
+		for ( File child : children ) {
+			if ( child.isDirectory() ) {
+				collectClasses( child, packageName.isEmpty() ? child.getName() : packageName + "." + child.getName(), classesByPackage );
+			}
+			else if ( child.getName().endsWith( CLASS_FILE_EXTENSION ) ) {
+				String simpleName = child.getName().substring( 0, child.getName().length() - CLASS_FILE_EXTENSION.length() );
+				TreeSet<String> classes = classesByPackage.get( packageName );
+				if ( classes == null ) {
+					classes = new TreeSet<>();
+					classesByPackage.put( packageName, classes );
+				}
+				classes.add( simpleName );
+			}
+		}
+	}
+}
@@ -41,6 +41,8 @@ import java.util.zip.ZipFile;
 /**
  * Implementation of scanner which can scan a {@link URLClassLoader}
  * <p>
+ * Archives containing a {@link PackageIndex} are not scanned, the classes are retrieved from the index instead.
+ * <p>
  * This class used to be imported from Shrinkwrap and used in the TCK. As it is an internal API, it is subject to change
  * so we internalized it as part of BVTCK-192.
  *
@@ -109,6 +111,15 @@ public class URLPackageScanner {
 			Set<String> paths = new HashSet<String>();
 
 			for ( URL url : loadResources( packageNamePath ) ) {
+				List<String> indexedClassNames = PackageIndex.getClassNames( url, packageName, addRecursively );
+				if ( indexedClassNames != null ) {
+					log.fine( "using package index for: " + url );
+					for ( String className : indexedClassNames ) {
+						foundClass( className );
+					}
+					continue;
+				}
+
 				String urlPath = url.getFile();
 				urlPath = URLDecoder.decode( urlPath, "UTF-8" );
 				if ( urlPath.startsWith( "file:" ) ) {
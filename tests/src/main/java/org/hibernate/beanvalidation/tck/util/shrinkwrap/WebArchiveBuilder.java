@@ -9,7 +9,6 @@ package org.hibernate.beanvalidation.tck.util.shrinkwrap;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.Asset;
 import org.jboss.shrinkwrap.api.asset.EmptyAsset;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
@@ -36,14 +35,7 @@ public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArch
 
 	@Override
 	protected WebArchive buildInternal() {
-		WebArchive webArchive;
-
-		if ( getName() == null ) {
-			webArchive = ShrinkWrap.create( WebArchive.class );
-		}
-		else {
-			webArchive = ShrinkWrap.create( WebArchive.class, getName() );
-		}
+		WebArchive webArchive = createArchive();
 
 		processPackages( webArchive );
 		processClasses( webArchive );
@@ -58,6 +50,25 @@ public class WebArchiveBuilder extends ArchiveBuilder<WebArchiveBuilder, WebArch
 		return webArchive;
 	}
 
+	@Override
+	protected Class<WebArchive> getArchiveType() {
+		return WebArchive.class;
+	}
+
+	@Override
+	void processFingerprint(ArchiveFingerprint fingerprint) {
+		super.processFingerprint( fingerprint );
+
+		if ( webInfResources == null ) {
+			return;
+		}
+
+		fingerprint.add( "WEB-INF" );
+		for ( ResourceDescriptor resource : webInfResources ) {
+			processFingerprint( fingerprint, resource );
+		}
+	}
+
 	@Override
 	public WebArchiveBuilder withEmptyBeansXml() {
 		return withWebInfResource( EmptyAsset.INSTANCE, "beans.xml" );